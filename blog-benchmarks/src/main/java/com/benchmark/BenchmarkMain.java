@@ -0,0 +1,31 @@
+package com.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Accepts the usual JMH command line (benchmark regex, {@code -p}, {@code -f},
+ * {@code -rf json}, ...) and always adds the GC profiler, so every result
+ * carries {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ * </p>
+ */
+public class BenchmarkMain {
+
+	/**
+	 * Runs the selected benchmarks with the GC profiler.
+	 *
+	 * @param args JMH command-line options.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		new Runner(new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
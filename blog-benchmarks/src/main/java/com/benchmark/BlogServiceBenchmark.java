@@ -0,0 +1,157 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.MainApp;
+import com.dto.BlogDTO;
+import com.dto.BlogWithCommentDTO;
+import com.dto.CommentDTO;
+import com.dto.PageDTO;
+import com.service.BlogService;
+import com.service.CommentService;
+
+/**
+ * {@link com.service.impl.BlogServiceImpl} and
+ * {@link com.service.impl.CommentServiceImpl} read paths, through their
+ * transactional proxies, against an embedded H2 database in MySQL mode.
+ * <p>
+ * The application context is the real one, started without a web server.
+ * The result cache is switched off, so each call reaches the database;
+ * the numbers cover the transaction, the query, the DTO projection and the
+ * mapping. {@value #BLOGS} blogs with {@value #COMMENTS_PER_BLOG} comments each
+ * are seeded, plus one blog with {@value #HOT_BLOG_COMMENTS} comments.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogServiceBenchmark {
+
+	static final int BLOGS = 2000;
+	static final int COMMENTS_PER_BLOG = 5;
+	static final int HOT_BLOG_COMMENTS = 1000;
+	private static final int PAGE_SIZE = 20;
+
+	private ConfigurableApplicationContext context;
+	private BlogService blogService;
+	private CommentService commentService;
+
+	private Long blogId;
+	private Long hotBlogId;
+	private String deepListingCursor;
+	private String midCommentCursor;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(MainApp.class)
+				.web(WebApplicationType.NONE)
+				.run("--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.jpa.hibernate.ddl-auto=create",
+						"--spring.jpa.show-sql=false",
+						"--spring.cache.type=none",
+						"--blog.comment-count-repair.cron=-",
+						"--logging.level.root=WARN");
+		blogService = context.getBean(BlogService.class);
+		commentService = context.getBean(CommentService.class);
+		seed();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	private void seed() {
+		List<BlogDTO> blogDtos = new ArrayList<>(BLOGS);
+		for (int i = 1; i <= BLOGS; i++) {
+			BlogDTO blogDto = new BlogDTO();
+			blogDto.setTitle(Fixtures.title(i));
+			blogDto.setContent(Fixtures.content(i));
+			blogDto.setAuthor("author-" + (i % 50));
+			blogDtos.add(blogDto);
+		}
+		List<BlogDTO> created = blogService.createBlogs(blogDtos).getCreated();
+
+		List<CommentDTO> commentDtos = new ArrayList<>();
+		for (BlogDTO blog : created) {
+			for (int i = 1; i <= COMMENTS_PER_BLOG; i++) {
+				commentDtos.add(newComment(blog.getId(), i));
+			}
+		}
+		hotBlogId = created.get(created.size() / 2).getId();
+		for (int i = 1; i <= HOT_BLOG_COMMENTS; i++) {
+			commentDtos.add(newComment(hotBlogId, i));
+		}
+		commentService.createComments(commentDtos);
+
+		blogId = created.get(0).getId();
+		PageDTO<BlogDTO> page = blogService.getAllBlogs(null, null, null, null, 500);
+		deepListingCursor = page.getNextCursor();
+		midCommentCursor = commentService.getComments(hotBlogId, null, HOT_BLOG_COMMENTS / 2).getNextCursor();
+	}
+
+	private static CommentDTO newComment(Long blogId, int i) {
+		CommentDTO commentDto = new CommentDTO();
+		commentDto.setBlogId(blogId);
+		commentDto.setComment(Fixtures.comment(i));
+		return commentDto;
+	}
+
+	@Benchmark
+	public PageDTO<BlogDTO> listingFirstPage() {
+		return blogService.getAllBlogs(null, null, null, null, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public PageDTO<BlogDTO> listingDeepPage() {
+		return blogService.getAllBlogs(null, null, null, deepListingCursor, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public PageDTO<BlogDTO> listingByAuthor() {
+		return blogService.getAllBlogs("author-7", null, null, null, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public BlogDTO blogById() {
+		return blogService.getBlogById(blogId);
+	}
+
+	@Benchmark
+	public long blogVersion() {
+		return blogService.getBlogVersion(blogId);
+	}
+
+	@Benchmark
+	public BlogWithCommentDTO blogWithComments() {
+		return blogService.fetchBlogWithComment(hotBlogId);
+	}
+
+	@Benchmark
+	public PageDTO<CommentDTO> commentsMidPage() {
+		return commentService.getComments(hotBlogId, midCommentCursor, PAGE_SIZE);
+	}
+}
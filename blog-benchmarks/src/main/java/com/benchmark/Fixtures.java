@@ -0,0 +1,98 @@
+package com.benchmark;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dto.BlogDTO;
+import com.dto.CommentDTO;
+import com.entity.BlogEntity;
+import com.entity.CommentEntity;
+
+/**
+ * Builds realistic blogs and comments for the benchmarks: field lengths close
+ * to the validation limits and distinct strings per row, so neither JIT
+ * constant folding nor string deduplication flatters the results.
+ */
+final class Fixtures {
+
+	private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Builds a managed-looking blog entity with the given number of comments,
+	 * each linked back to the blog as Hibernate would load them.
+	 */
+	static BlogEntity blogEntity(long id, int comments) {
+		BlogEntity blog = new BlogEntity();
+		blog.setId(id);
+		blog.setTitle(title(id));
+		blog.setContent(content(id));
+		blog.setAuthor("author-" + (id % 50));
+		set(blog, "publishedAt", EPOCH.plusMinutes(id));
+		set(blog, "version", (long) comments);
+		set(blog, "commentCount", (long) comments);
+		set(blog, "lastCommentAt", comments == 0 ? null : EPOCH.plusMinutes(id).plusSeconds(comments));
+
+		List<CommentEntity> commentList = new ArrayList<>(comments);
+		for (int i = 1; i <= comments; i++) {
+			CommentEntity comment = new CommentEntity();
+			comment.setId(id * 1_000_000 + i);
+			comment.setBlog(blog);
+			comment.setComment(comment(i));
+			comment.setCreatedAt(EPOCH.plusMinutes(id).plusSeconds(i));
+			commentList.add(comment);
+		}
+		blog.setComments(commentList);
+		return blog;
+	}
+
+	/**
+	 * Builds a blog DTO as read by the listing queries.
+	 */
+	static BlogDTO blogDTO(long id) {
+		return new BlogDTO(id, title(id), content(id), "author-" + (id % 50), EPOCH.plusMinutes(id), 3L, 3L,
+				EPOCH.plusMinutes(id).plusSeconds(3));
+	}
+
+	/**
+	 * Builds the comment DTOs of one blog, oldest first.
+	 */
+	static List<CommentDTO> commentDTOs(long blogId, int comments) {
+		List<CommentDTO> commentList = new ArrayList<>(comments);
+		for (int i = 1; i <= comments; i++) {
+			commentList.add(new CommentDTO(blogId * 1_000_000 + i, comment(i), blogId,
+					EPOCH.plusMinutes(blogId).plusSeconds(i)));
+		}
+		return commentList;
+	}
+
+	static String title(long id) {
+		return "Benchmarking the blog listing, part " + id;
+	}
+
+	static String content(long id) {
+		return "Post " + id + ": keyset pagination reads one index range per page, so the cost of a page"
+				+ " does not grow with its depth in the listing.";
+	}
+
+	static String comment(int i) {
+		return "Comment " + i + ": thanks, this matches what we measured on our own listing.";
+	}
+
+	/**
+	 * Sets a field that the entity only exposes a getter for, as Hibernate does when loading it.
+	 */
+	private static void set(Object target, String fieldName, Object value) {
+		try {
+			Field field = target.getClass().getDeclaredField(fieldName);
+			field.setAccessible(true);
+			field.set(target, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot set " + fieldName, e);
+		}
+	}
+}
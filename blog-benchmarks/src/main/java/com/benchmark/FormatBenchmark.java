@@ -0,0 +1,95 @@
+package com.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dto.BlogWithCommentDTO;
+import com.dto.PageDTO;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mapper.BlogMapper;
+
+/**
+ * Cost of each negotiable body format for a blog with a page of comments:
+ * encoding, decoding, and encoding through gzip as the server does above its
+ * compression threshold. The mappers are configured as Spring Boot configures
+ * them. The payload sizes, plain and gzipped, are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+	@Param({ "json", "smile", "cbor" })
+	String format;
+
+	/** The default comment page, and a tenfold one. */
+	@Param({ "20", "200" })
+	int comments;
+
+	private ObjectWriter writer;
+	private ObjectReader reader;
+	private BlogWithCommentDTO blog;
+	private byte[] encoded;
+
+	@Setup
+	public void setUp() throws IOException {
+		Jackson2ObjectMapperBuilder builder = switch (format) {
+		case "json" -> Jackson2ObjectMapperBuilder.json();
+		case "smile" -> Jackson2ObjectMapperBuilder.smile();
+		case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+		default -> throw new IllegalArgumentException("Unknown format " + format);
+		};
+		var objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		writer = objectMapper.writerFor(BlogWithCommentDTO.class);
+		reader = objectMapper.readerFor(BlogWithCommentDTO.class);
+
+		blog = BlogMapper.convertToBlogWithCommentDTO(Fixtures.blogDTO(42),
+				new PageDTO<>(Fixtures.commentDTOs(42, comments), null));
+		encoded = writer.writeValueAsBytes(blog);
+
+		ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(gzipped)) {
+			out.write(encoded);
+		}
+		System.out.printf("%n%s, %d comments: %d bytes, %d bytes gzipped%n", format, comments, encoded.length,
+				gzipped.size());
+	}
+
+	@Benchmark
+	public void serialize() throws IOException {
+		writer.writeValue(OutputStream.nullOutputStream(), blog);
+	}
+
+	@Benchmark
+	public BlogWithCommentDTO deserialize() throws IOException {
+		return reader.readValue(encoded);
+	}
+
+	@Benchmark
+	public void serializeGzipped() throws IOException {
+		try (OutputStream out = new GZIPOutputStream(OutputStream.nullOutputStream())) {
+			writer.writeValue(out, blog);
+		}
+	}
+}
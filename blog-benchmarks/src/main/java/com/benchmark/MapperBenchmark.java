@@ -0,0 +1,100 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dto.BlogDTO;
+import com.dto.BlogWithCommentDTO;
+import com.dto.CommentDTO;
+import com.dto.PageDTO;
+import com.entity.BlogEntity;
+import com.entity.CommentEntity;
+import com.mapper.BlogMapper;
+import com.mapper.CommentMapper;
+
+/**
+ * Entity-to-DTO mapping over a blog with its loaded comments.
+ * <p>
+ * {@code comments} sets the size of the blog's comment list; the page
+ * benchmarks trim it to {@code blog.comments.page-size} like the service does.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	private static final int COMMENT_PAGE_SIZE = 20;
+
+	@Param({ "10", "1000" })
+	int comments;
+
+	private BlogEntity blog;
+	private BlogDTO blogDto;
+	private List<CommentDTO> commentRows;
+
+	@Setup
+	public void setUp() {
+		blog = Fixtures.blogEntity(42, comments);
+		blogDto = BlogMapper.convertToDTO(blog);
+		commentRows = Fixtures.commentDTOs(42, Math.min(comments, COMMENT_PAGE_SIZE + 1));
+	}
+
+	/**
+	 * {@link BlogMapper#convertToDTO} of a single blog.
+	 */
+	@Benchmark
+	public BlogDTO blogToDTO() {
+		return BlogMapper.convertToDTO(blog);
+	}
+
+	/**
+	 * {@link CommentMapper#convertToDTO} over every loaded comment of the blog.
+	 */
+	@Benchmark
+	public List<CommentDTO> commentsToDTO() {
+		List<CommentEntity> entities = blog.getComments();
+		List<CommentDTO> commentList = new ArrayList<>(entities.size());
+		for (CommentEntity comment : entities) {
+			commentList.add(CommentMapper.convertToDTO(comment));
+		}
+		return commentList;
+	}
+
+	/**
+	 * The whole blog-with-comments mapping from entities: blog, every comment,
+	 * then {@link BlogMapper#convertToBlogWithCommentDTO}.
+	 */
+	@Benchmark
+	public BlogWithCommentDTO blogWithCommentsFromEntities() {
+		return BlogMapper.convertToBlogWithCommentDTO(BlogMapper.convertToDTO(blog),
+				new PageDTO<>(commentsToDTO(), null));
+	}
+
+	/**
+	 * The service's current path: projected rows trimmed to one page with
+	 * {@link CommentMapper#convertToPage}, then
+	 * {@link BlogMapper#convertToBlogWithCommentDTO}.
+	 */
+	@Benchmark
+	public BlogWithCommentDTO blogWithCommentPage() {
+		return BlogMapper.convertToBlogWithCommentDTO(blogDto,
+				CommentMapper.convertToPage(commentRows, COMMENT_PAGE_SIZE));
+	}
+}
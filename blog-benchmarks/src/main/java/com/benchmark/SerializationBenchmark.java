@@ -0,0 +1,109 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dto.BlogDTO;
+import com.dto.BlogWithCommentDTO;
+import com.dto.PageDTO;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mapper.BlogMapper;
+
+/**
+ * Jackson serialization of the API's response bodies, with the object mapper
+ * configured as Spring Boot configures it (Java time module, ISO date-times).
+ * Bodies are written to a discarding stream, as the message converter writes
+ * them to the response, so only encoding is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+	/**
+	 * Writers shared by all benchmarks.
+	 */
+	@State(Scope.Benchmark)
+	public static class Writers {
+
+		ObjectWriter pageWriter;
+		ObjectWriter blogWithCommentWriter;
+
+		@Setup
+		public void setUp() {
+			var objectMapper = Jackson2ObjectMapperBuilder.json()
+					.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+					.build();
+			pageWriter = objectMapper.writerFor(PageDTO.class);
+			blogWithCommentWriter = objectMapper.writerFor(BlogWithCommentDTO.class);
+		}
+	}
+
+	/**
+	 * One page of the blog listing.
+	 */
+	@State(Scope.Benchmark)
+	public static class BlogPage {
+
+		@Param({ "20", "100" })
+		int blogs;
+
+		PageDTO<BlogDTO> page;
+
+		@Setup
+		public void setUp() {
+			List<BlogDTO> blogList = new ArrayList<>(blogs);
+			for (int i = 1; i <= blogs; i++) {
+				blogList.add(Fixtures.blogDTO(i));
+			}
+			page = new PageDTO<>(blogList, "MjAyNC0wMS0wMVQwMDowMHwx");
+		}
+	}
+
+	/**
+	 * A blog carrying the given number of comments.
+	 */
+	@State(Scope.Benchmark)
+	public static class BlogWithComments {
+
+		@Param({ "10", "1000", "100000" })
+		int comments;
+
+		BlogWithCommentDTO blog;
+
+		@Setup
+		public void setUp() {
+			blog = BlogMapper.convertToBlogWithCommentDTO(Fixtures.blogDTO(42),
+					new PageDTO<>(Fixtures.commentDTOs(42, comments), null));
+		}
+	}
+
+	@Benchmark
+	public void blogPage(Writers writers, BlogPage state) throws IOException {
+		writers.pageWriter.writeValue(OutputStream.nullOutputStream(), state.page);
+	}
+
+	@Benchmark
+	public void blogWithComments(Writers writers, BlogWithComments state) throws IOException {
+		writers.blogWithCommentWriter.writeValue(OutputStream.nullOutputStream(), state.blog);
+	}
+}
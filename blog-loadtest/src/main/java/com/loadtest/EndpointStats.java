@@ -0,0 +1,146 @@
+package com.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and outcomes of one operation. Each worker records into its own
+ * instance, so recording needs no synchronization; the instances are merged
+ * once the run is over.
+ */
+class EndpointStats {
+
+	private long[] latenciesNanos = new long[1024];
+	private int count;
+	private long errors;
+	private long skipped;
+	private long statements;
+	private int maxStatements;
+	private long maxRows;
+	private int budget = -1;
+	private long overBudget;
+	private final Map<Integer, Long> statuses = new TreeMap<>();
+
+	void record(long latencyNanos, int status, boolean expected) {
+		if (count == latenciesNanos.length) {
+			latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+		}
+		latenciesNanos[count++] = latencyNanos;
+		statuses.merge(status, 1L, Long::sum);
+		if (!expected) {
+			errors++;
+		}
+	}
+
+	/**
+	 * Records the statement and row counts the application reported for a
+	 * request, and whether they exceeded the endpoint's declared budget.
+	 *
+	 * @param statementCount The {@code X-Query-Count} header.
+	 * @param rowCount       The {@code X-Query-Rows} header.
+	 * @param statementBudget The {@code X-Query-Budget} header, or -1 if none is declared.
+	 */
+	void recordQueries(int statementCount, long rowCount, int statementBudget) {
+		statements += statementCount;
+		maxStatements = Math.max(maxStatements, statementCount);
+		maxRows = Math.max(maxRows, rowCount);
+		budget = Math.max(budget, statementBudget);
+		if (statementBudget >= 0 && statementCount > statementBudget) {
+			overBudget++;
+		}
+	}
+
+	/**
+	 * Records a request that failed without a response, such as a timeout.
+	 * Status 0 stands for "no response" in the report.
+	 */
+	void recordFailure(long latencyNanos) {
+		record(latencyNanos, 0, false);
+	}
+
+	/**
+	 * Counts an iteration in which the operation had nothing to run against.
+	 */
+	void recordSkipped() {
+		skipped++;
+	}
+
+	long requests() {
+		return count;
+	}
+
+	long errors() {
+		return errors;
+	}
+
+	long overBudget() {
+		return overBudget;
+	}
+
+	void merge(EndpointStats other) {
+		if (count + other.count > latenciesNanos.length) {
+			latenciesNanos = Arrays.copyOf(latenciesNanos, count + other.count);
+		}
+		System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+		count += other.count;
+		errors += other.errors;
+		skipped += other.skipped;
+		statements += other.statements;
+		maxStatements = Math.max(maxStatements, other.maxStatements);
+		maxRows = Math.max(maxRows, other.maxRows);
+		budget = Math.max(budget, other.budget);
+		overBudget += other.overBudget;
+		other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+	}
+
+	/**
+	 * Summarizes the recorded requests. Percentiles use the nearest-rank method
+	 * over every recorded latency, not a histogram approximation.
+	 *
+	 * @param seconds The length of the measurement window.
+	 * @return The report entry of the operation, latencies in milliseconds.
+	 */
+	Map<String, Object> summarize(double seconds) {
+		long[] sorted = Arrays.copyOf(latenciesNanos, count);
+		Arrays.sort(sorted);
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("requests", count);
+		summary.put("errors", errors);
+		summary.put("skipped", skipped);
+		summary.put("throughputPerSecond", round(count / seconds));
+		summary.put("statuses", statuses);
+		Map<String, Object> latency = new LinkedHashMap<>();
+		latency.put("p50", millis(percentile(sorted, 50)));
+		latency.put("p99", millis(percentile(sorted, 99)));
+		latency.put("p99.9", millis(percentile(sorted, 99.9)));
+		latency.put("max", millis(count == 0 ? 0 : sorted[count - 1]));
+		latency.put("mean", millis(count == 0 ? 0 : (long) Arrays.stream(sorted).average().orElse(0)));
+		summary.put("latencyMillis", latency);
+		Map<String, Object> queries = new LinkedHashMap<>();
+		queries.put("meanStatements", count == 0 ? 0 : round((double) statements / count));
+		queries.put("maxStatements", maxStatements);
+		queries.put("maxRows", maxRows);
+		queries.put("statementBudget", budget < 0 ? null : budget);
+		queries.put("overBudget", overBudget);
+		summary.put("queries", queries);
+		return summary;
+	}
+
+	private static long percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	private static double millis(long nanos) {
+		return round(nanos / 1_000_000.0);
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 1000) / 1000.0;
+	}
+}
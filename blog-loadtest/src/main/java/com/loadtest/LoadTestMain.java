@@ -0,0 +1,361 @@
+package com.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.MainApp;
+import com.dto.BlogDTO;
+import com.dto.CommentDTO;
+import com.dto.PageDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.service.BlogService;
+import com.service.CommentService;
+
+/**
+ * End-to-end load harness for the blog API.
+ * <p>
+ * Boots the real application on a random port against an embedded H2 database
+ * in MySQL mode, seeds it through the services, then drives the
+ * {@link com.controller.BlogController} endpoints over HTTP from a fixed number
+ * of closed-loop clients, each issuing its next request as soon as the previous
+ * one has been answered. Requests issued during the warm-up are not recorded.
+ * Per-endpoint throughput and p50/p99/p99.9 latencies are printed and written
+ * to a JSON report.
+ * </p>
+ * <p>
+ * Query statistics are switched on in the application, so the report also
+ * carries the statements and rows per request, and every response is checked
+ * against its endpoint's {@link com.config.QueryBudget}. Pass
+ * {@code --blog.query-stats.enabled=false} for latencies without the JDBC
+ * proxy.
+ * </p>
+ * <p>
+ * The process exits with status 1 if the share of unexpected responses exceeds
+ * {@code --loadtest.max-error-rate} or any request went over its query budget,
+ * so a release pipeline can gate on it. Latency thresholds are left to whoever
+ * compares reports between builds.
+ * </p>
+ * <p>
+ * Read-replica routing runs against a second, read-only pool on the same
+ * in-memory database, a replica without lag; the {@code blog.datasource.reads}
+ * meters then show where the reads went. A replica URL that cannot be opened,
+ * such as {@code jdbc:h2:mem:missing;IFEXISTS=TRUE}, exercises the fallback to
+ * the primary instead.
+ * </p>
+ *
+ * <pre>
+ * java -jar blog-loadtest.jar --loadtest.blogs=5000 --loadtest.concurrency=64 \
+ *     --loadtest.duration-seconds=60 --blog.comments.async.enabled=true
+ *
+ * java -jar blog-loadtest.jar --blog.replica.enabled=true \
+ *     "--blog.replica.urls=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+ * </pre>
+ */
+public class LoadTestMain {
+
+	private static final int SEED_CHUNK = 1000;
+	private static final int PAGE_SIZE = 20;
+
+	private static final List<String> DEFAULT_APPLICATION_ARGS = List.of(
+			"--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.jpa.hibernate.ddl-auto=create",
+			"--spring.jpa.show-sql=false",
+			"--server.port=0",
+			"--blog.comment-count-repair.cron=-",
+			"--blog.query-stats.enabled=true",
+			"--logging.level.root=WARN");
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.parse(args);
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(MainApp.class)
+				.run(applicationArgs(settings.applicationArgs));
+
+		int exitCode;
+		try {
+			System.out.printf("Seeding %d blogs with %d comments each...%n", settings.blogs, settings.commentsPerBlog);
+			TestData data = seed(context, settings);
+
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			Map<String, Object> report = run(URI.create("http://localhost:" + port), data, settings);
+
+			ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+			objectMapper.writeValue(settings.output.toFile(), report);
+			System.out.println("Report written to " + settings.output.toAbsolutePath());
+
+			exitCode = 0;
+			double errorRate = (double) report.get("errorRate");
+			if (errorRate > settings.maxErrorRate) {
+				System.out.printf("Error rate %.4f exceeds the allowed %.4f%n", errorRate, settings.maxErrorRate);
+				exitCode = 1;
+			}
+			long overBudget = (long) report.get("overQueryBudget");
+			if (overBudget > 0) {
+				System.out.printf("%d request(s) ran more statements than their endpoint's @QueryBudget%n", overBudget);
+				exitCode = 1;
+			}
+		} finally {
+			SpringApplication.exit(context);
+		}
+		System.exit(exitCode);
+	}
+
+	/**
+	 * Puts the embedded-database defaults ahead of the caller's application
+	 * options. Defaults are passed as command-line options too, since they must
+	 * win over {@code application.properties}; any the caller sets are left out.
+	 */
+	private static String[] applicationArgs(List<String> callerArgs) {
+		List<String> args = new ArrayList<>();
+		for (String option : DEFAULT_APPLICATION_ARGS) {
+			String name = option.substring(0, option.indexOf('=') + 1);
+			if (callerArgs.stream().noneMatch(arg -> arg.startsWith(name))) {
+				args.add(option);
+			}
+		}
+		args.addAll(callerArgs);
+		return args.toArray(String[]::new);
+	}
+
+	/**
+	 * Seeds blogs and comments through the services and collects the IDs and
+	 * listing cursors the operations pick from. One blog in ten is created as
+	 * disposable, for the delete operation to consume.
+	 */
+	private static TestData seed(ConfigurableApplicationContext context, LoadTestSettings settings) {
+		BlogService blogService = context.getBean(BlogService.class);
+		CommentService commentService = context.getBean(CommentService.class);
+		LocalDateTime seededFrom = LocalDateTime.now();
+
+		List<String> authors = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			authors.add("author-" + i);
+		}
+
+		List<Long> blogIds = new ArrayList<>(settings.blogs);
+		List<Long> disposableBlogIds = new ArrayList<>();
+		int total = settings.blogs + settings.blogs / 10;
+		for (int first = 0; first < total; first += SEED_CHUNK) {
+			List<BlogDTO> chunk = new ArrayList<>();
+			for (int i = first; i < Math.min(total, first + SEED_CHUNK); i++) {
+				BlogDTO blogDto = new BlogDTO();
+				blogDto.setTitle("Seeded blog " + i);
+				blogDto.setContent(TestData.contentOf(i));
+				blogDto.setAuthor(authors.get(i % authors.size()));
+				chunk.add(blogDto);
+			}
+			for (BlogDTO created : blogService.createBlogs(chunk).getCreated()) {
+				(blogIds.size() < settings.blogs ? blogIds : disposableBlogIds).add(created.getId());
+			}
+		}
+
+		List<CommentDTO> comments = new ArrayList<>();
+		for (Long blogId : blogIds) {
+			for (int i = 0; i < settings.commentsPerBlog; i++) {
+				CommentDTO commentDto = new CommentDTO();
+				commentDto.setBlogId(blogId);
+				commentDto.setComment("Seeded comment " + i + " on blog " + blogId);
+				comments.add(commentDto);
+			}
+			if (comments.size() >= SEED_CHUNK * 5) {
+				commentService.createComments(comments);
+				comments.clear();
+			}
+		}
+		if (!comments.isEmpty()) {
+			commentService.createComments(comments);
+		}
+		LocalDateTime seededTo = LocalDateTime.now();
+
+		List<long[]> commentIds = new ArrayList<>();
+		int commentPage = Math.max(1, Math.min(100, settings.commentsPerBlog));
+		for (Long blogId : blogIds) {
+			for (CommentDTO comment : commentService.getComments(blogId, null, commentPage).getItems()) {
+				commentIds.add(new long[] { blogId, comment.getId() });
+			}
+		}
+		if (commentIds.isEmpty()) {
+			throw new IllegalArgumentException("--loadtest.comments-per-blog must be positive");
+		}
+
+		List<String> listingCursors = new ArrayList<>();
+		PageDTO<BlogDTO> page = blogService.getAllBlogs(null, null, null, null, PAGE_SIZE);
+		while (page.getNextCursor() != null) {
+			listingCursors.add(page.getNextCursor());
+			page = blogService.getAllBlogs(null, null, null, page.getNextCursor(), PAGE_SIZE);
+		}
+		if (listingCursors.isEmpty()) {
+			throw new IllegalArgumentException("--loadtest.blogs must exceed the page size of " + PAGE_SIZE);
+		}
+
+		TestData data = new TestData(blogIds, commentIds, listingCursors, authors, seededFrom, seededTo);
+		data.disposableBlogIds.addAll(disposableBlogIds);
+		return data;
+	}
+
+	/**
+	 * Runs the warm-up and the measurement and builds the report.
+	 */
+	private static Map<String, Object> run(URI base, TestData data, LoadTestSettings settings) throws Exception {
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		ObjectMapper objectMapper = new ObjectMapper();
+		Operation[] schedule = schedule(settings.mix);
+
+		long start = System.nanoTime();
+		long measureFrom = start + settings.warmupSeconds * 1_000_000_000L;
+		long measureUntil = measureFrom + settings.durationSeconds * 1_000_000_000L;
+		System.out.printf("Warming up for %ds, then measuring for %ds with %d clients...%n",
+				settings.warmupSeconds, settings.durationSeconds, settings.concurrency);
+
+		List<Future<Map<Operation, EndpointStats>>> workers = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < settings.concurrency; i++) {
+				workers.add(executor.submit(
+						() -> drive(client, objectMapper, base, data, schedule, measureFrom, measureUntil)));
+			}
+		}
+
+		Map<Operation, EndpointStats> merged = new EnumMap<>(Operation.class);
+		for (Future<Map<Operation, EndpointStats>> worker : workers) {
+			worker.get().forEach((operation, stats) -> merged.computeIfAbsent(operation, o -> new EndpointStats())
+					.merge(stats));
+		}
+		return report(merged, settings);
+	}
+
+	/**
+	 * Expands the weighted mix into a table that a uniform random index picks
+	 * from, so each pick is a single array access.
+	 */
+	private static Operation[] schedule(Map<Operation, Integer> mix) {
+		List<Operation> schedule = new ArrayList<>();
+		mix.forEach((operation, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				schedule.add(operation);
+			}
+		});
+		return schedule.toArray(Operation[]::new);
+	}
+
+	/**
+	 * One closed-loop client. Records into its own statistics only the requests
+	 * started inside the measurement window.
+	 */
+	private static Map<Operation, EndpointStats> drive(HttpClient client, ObjectMapper objectMapper, URI base,
+			TestData data, Operation[] schedule, long measureFrom, long measureUntil) throws InterruptedException {
+		Map<Operation, EndpointStats> statsByOperation = new EnumMap<>(Operation.class);
+		long now;
+		while ((now = System.nanoTime()) < measureUntil) {
+			Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+			EndpointStats stats = now >= measureFrom
+					? statsByOperation.computeIfAbsent(operation, o -> new EndpointStats())
+					: new EndpointStats();
+			HttpRequest.Builder request = operation.request(base, data);
+			if (request == null) {
+				stats.recordSkipped();
+				continue;
+			}
+
+			long begin = System.nanoTime();
+			try {
+				HttpResponse<byte[]> response = client.send(request.build(), operation.readsBody()
+						? HttpResponse.BodyHandlers.ofByteArray()
+						: HttpResponse.BodyHandlers.replacing(null));
+				long latency = System.nanoTime() - begin;
+				boolean expected = operation.isExpected(response.statusCode());
+				stats.record(latency, response.statusCode(), expected);
+				recordQueries(stats, response.headers());
+				if (expected && operation.readsBody()) {
+					JsonNode body = objectMapper.readTree(response.body());
+					operation.onSuccess(body, data);
+				}
+			} catch (IOException e) {
+				stats.recordFailure(System.nanoTime() - begin);
+			}
+		}
+		return statsByOperation;
+	}
+
+	/**
+	 * Records the statement counts the application reports when
+	 * {@code blog.query-stats.enabled} is set; a no-op otherwise.
+	 */
+	private static void recordQueries(EndpointStats stats, HttpHeaders headers) {
+		OptionalLong statements = headers.firstValueAsLong("X-Query-Count");
+		if (statements.isPresent()) {
+			stats.recordQueries((int) statements.getAsLong(), headers.firstValueAsLong("X-Query-Rows").orElse(0),
+					(int) headers.firstValueAsLong("X-Query-Budget").orElse(-1));
+		}
+	}
+
+	private static Map<String, Object> report(Map<Operation, EndpointStats> merged, LoadTestSettings settings) {
+		long requests = 0;
+		long errors = 0;
+		long overBudget = 0;
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		System.out.printf("%n%-24s %9s %7s %10s %9s %9s %9s %9s %6s %6s%n", "endpoint", "requests", "errors",
+				"req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "stmts", "budget");
+		for (Map.Entry<Operation, EndpointStats> entry : merged.entrySet()) {
+			EndpointStats stats = entry.getValue();
+			Map<String, Object> summary = stats.summarize(settings.durationSeconds);
+			endpoints.put(entry.getKey().name(), summary);
+			requests += stats.requests();
+			errors += stats.errors();
+			overBudget += stats.overBudget();
+
+			@SuppressWarnings("unchecked")
+			Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMillis");
+			@SuppressWarnings("unchecked")
+			Map<String, Object> queries = (Map<String, Object>) summary.get("queries");
+			Object budget = queries.get("statementBudget");
+			System.out.printf("%-24s %9d %7d %10.1f %9.3f %9.3f %9.3f %9.3f %6s %6s%n", entry.getKey(),
+					stats.requests(), stats.errors(), summary.get("throughputPerSecond"), latency.get("p50"),
+					latency.get("p99"), latency.get("p99.9"), latency.get("max"), queries.get("maxStatements"),
+					budget == null ? "-" : budget);
+		}
+
+		Map<String, Object> run = new LinkedHashMap<>();
+		run.put("blogs", settings.blogs);
+		run.put("commentsPerBlog", settings.commentsPerBlog);
+		run.put("concurrency", settings.concurrency);
+		run.put("warmupSeconds", settings.warmupSeconds);
+		run.put("durationSeconds", settings.durationSeconds);
+		run.put("mix", settings.mix);
+		run.put("applicationArgs", settings.applicationArgs);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("run", run);
+		report.put("requests", requests);
+		report.put("errors", errors);
+		report.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+		report.put("overQueryBudget", overBudget);
+		report.put("throughputPerSecond", Math.round(requests * 10.0 / settings.durationSeconds) / 10.0);
+		report.put("endpoints", endpoints);
+		return report;
+	}
+}
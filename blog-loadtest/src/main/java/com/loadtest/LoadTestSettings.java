@@ -0,0 +1,94 @@
+package com.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a load-test run, read from {@code --loadtest.*} command-line
+ * options. Every other option is passed through to the application under test,
+ * so any of its properties can be changed for a run.
+ */
+class LoadTestSettings {
+
+	private static final String PREFIX = "--loadtest.";
+
+	/**
+	 * Default request mix, weighted towards reads like production traffic.
+	 */
+	static final String DEFAULT_MIX = "LIST_BLOGS=20,LIST_BLOGS_NEXT_PAGE=10,LIST_BLOGS_BY_AUTHOR=5,"
+			+ "LIST_BLOGS_BY_TIME=5,SEARCH_BLOGS=5,GET_BLOG=15,GET_BLOG_NOT_MODIFIED=5,GET_BLOG_WITH_COMMENTS=10,"
+			+ "GET_COMMENTS=5,GET_COMMENT=5,CREATE_BLOG=3,CREATE_BLOGS_BULK=1,UPDATE_BLOG=3,DELETE_BLOG=2,"
+			+ "ADD_COMMENT=4,DELETE_COMMENT=2";
+
+	int blogs = 2000;
+	int commentsPerBlog = 10;
+	int concurrency = 32;
+	int warmupSeconds = 10;
+	int durationSeconds = 30;
+	double maxErrorRate = 0.01;
+	Path output = Path.of("loadtest-report.json");
+	Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+	List<String> applicationArgs = new ArrayList<>();
+
+	/**
+	 * Parses the command line.
+	 *
+	 * @param args {@code --loadtest.<name>=<value>} options, followed or preceded
+	 *             by options for the application.
+	 * @return The settings.
+	 * @throws IllegalArgumentException If an option is unknown or malformed.
+	 */
+	static LoadTestSettings parse(String[] args) {
+		LoadTestSettings settings = new LoadTestSettings();
+		for (String arg : args) {
+			if (!arg.startsWith(PREFIX)) {
+				settings.applicationArgs.add(arg);
+				continue;
+			}
+			int separator = arg.indexOf('=');
+			if (separator < 0) {
+				throw new IllegalArgumentException("Expected " + arg + "=<value>");
+			}
+			String name = arg.substring(PREFIX.length(), separator);
+			String value = arg.substring(separator + 1);
+			switch (name) {
+				case "blogs" -> settings.blogs = Integer.parseInt(value);
+				case "comments-per-blog" -> settings.commentsPerBlog = Integer.parseInt(value);
+				case "concurrency" -> settings.concurrency = Integer.parseInt(value);
+				case "warmup-seconds" -> settings.warmupSeconds = Integer.parseInt(value);
+				case "duration-seconds" -> settings.durationSeconds = Integer.parseInt(value);
+				case "max-error-rate" -> settings.maxErrorRate = Double.parseDouble(value);
+				case "output" -> settings.output = Path.of(value);
+				case "mix" -> settings.mix = parseMix(value);
+				default -> throw new IllegalArgumentException("Unknown option " + PREFIX + name);
+			}
+		}
+		return settings;
+	}
+
+	/**
+	 * Parses a request mix such as {@code GET_BLOG=10,LIST_BLOGS=5}. Operations
+	 * left out are not run.
+	 */
+	static Map<Operation, Integer> parseMix(String value) {
+		Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+		for (String entry : value.split(",")) {
+			String[] parts = entry.trim().split("=");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Expected <operation>=<weight> in mix, got: " + entry);
+			}
+			int weight = Integer.parseInt(parts[1].trim());
+			if (weight > 0) {
+				mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+			}
+		}
+		if (mix.isEmpty()) {
+			throw new IllegalArgumentException("The mix contains no operation");
+		}
+		return mix;
+	}
+}
@@ -0,0 +1,236 @@
+package com.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The {@link com.controller.BlogController} endpoints the harness drives, one
+ * constant per request shape that deserves its own latency figures.
+ * <p>
+ * Each operation builds its request from the {@link TestData}, declares the
+ * status codes that count as success and may record the rows its response
+ * created, so later delete operations have something to remove.
+ * </p>
+ */
+enum Operation {
+
+	LIST_BLOGS(Set.of(200, 204)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs?size=20");
+		}
+	},
+
+	LIST_BLOGS_NEXT_PAGE(Set.of(200, 204)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs?size=20&cursor=" + encode(TestData.pick(data.listingCursors)));
+		}
+	},
+
+	LIST_BLOGS_BY_AUTHOR(Set.of(200, 204)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs?size=20&author=" + encode(TestData.pick(data.authors)));
+		}
+	},
+
+	LIST_BLOGS_BY_TIME(Set.of(200, 204)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			long span = Math.max(1, ChronoUnit.MILLIS.between(data.seededFrom, data.seededTo));
+			LocalDateTime from = data.seededFrom.plus(ThreadLocalRandom.current().nextLong(span), ChronoUnit.MILLIS);
+			LocalDateTime to = from.plus(Math.max(1, span / 10), ChronoUnit.MILLIS);
+			return get(base, "/api/blogs?size=20&from=" + encode(from.toString()) + "&to=" + encode(to.toString()));
+		}
+	},
+
+	SEARCH_BLOGS(Set.of(200, 204)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs/search?size=20&q=" + encode(TestData.pick(TestData.WORDS)));
+		}
+	},
+
+	GET_BLOG(Set.of(200)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs/" + data.randomBlogId());
+		}
+	},
+
+	GET_BLOG_NOT_MODIFIED(Set.of(304)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs/" + data.randomBlogId()).header("If-None-Match", "*");
+		}
+	},
+
+	GET_BLOG_WITH_COMMENTS(Set.of(200)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs/" + data.randomBlogId() + "/comment");
+		}
+	},
+
+	GET_COMMENTS(Set.of(200)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return get(base, "/api/blogs/" + data.randomBlogId() + "/comments?size=20");
+		}
+	},
+
+	GET_COMMENT(Set.of(200)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			long[] comment = data.randomComment();
+			return get(base, "/api/blogs/" + comment[0] + "/comment/" + comment[1]);
+		}
+	},
+
+	CREATE_BLOG(Set.of(201)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return send(base, "/api/blogs", "POST", blogJson(ThreadLocalRandom.current().nextInt(1_000_000)));
+		}
+
+		@Override
+		void onSuccess(JsonNode body, TestData data) {
+			data.disposableBlogIds.add(body.get("id").asLong());
+		}
+	},
+
+	CREATE_BLOGS_BULK(Set.of(201)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			StringBuilder json = new StringBuilder("[");
+			int first = ThreadLocalRandom.current().nextInt(1_000_000);
+			for (int i = 0; i < BULK_SIZE; i++) {
+				json.append(i == 0 ? "" : ",").append(blogJson(first + i));
+			}
+			return send(base, "/api/blogs/bulk", "POST", json.append(']').toString());
+		}
+
+		@Override
+		void onSuccess(JsonNode body, TestData data) {
+			body.get("created").forEach(blog -> data.disposableBlogIds.add(blog.get("id").asLong()));
+		}
+	},
+
+	/**
+	 * Concurrent updates of the same blog may lose the optimistic-locking race,
+	 * which the API answers with 409; that is expected behaviour, not an error.
+	 */
+	UPDATE_BLOG(Set.of(200, 409)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return send(base, "/api/blogs/" + data.randomBlogId(), "PUT",
+					blogJson(ThreadLocalRandom.current().nextInt(1_000_000)));
+		}
+	},
+
+	DELETE_BLOG(Set.of(200)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			Long id = data.disposableBlogIds.poll();
+			return id == null ? null : send(base, "/api/blogs/" + id, "DELETE", null);
+		}
+	},
+
+	/**
+	 * 202 when asynchronous comment ingestion is enabled, 201 otherwise. Only
+	 * comments persisted immediately are known by ID and can be deleted later.
+	 */
+	ADD_COMMENT(Set.of(201, 202)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			return send(base, "/api/blogs/" + data.randomBlogId() + "/comment", "POST",
+					"{\"comment\":\"Load test comment " + ThreadLocalRandom.current().nextInt(1_000_000) + "\"}");
+		}
+
+		@Override
+		void onSuccess(JsonNode body, TestData data) {
+			if (body.hasNonNull("id")) {
+				data.disposableComments.add(new long[] { body.get("blogId").asLong(), body.get("id").asLong() });
+			}
+		}
+	},
+
+	DELETE_COMMENT(Set.of(200)) {
+		@Override
+		HttpRequest.Builder request(URI base, TestData data) {
+			long[] comment = data.disposableComments.poll();
+			return comment == null ? null
+					: send(base, "/api/blogs/" + comment[0] + "/comment/" + comment[1], "DELETE", null);
+		}
+	};
+
+	private static final int BULK_SIZE = 20;
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	private final Set<Integer> expectedStatuses;
+
+	Operation(Set<Integer> expectedStatuses) {
+		this.expectedStatuses = expectedStatuses;
+	}
+
+	/**
+	 * Builds the next request of this operation.
+	 *
+	 * @param base The base URI of the application under test.
+	 * @param data The data to pick the request's targets from.
+	 * @return The request, or {@code null} if there is nothing to run it against
+	 *         right now, e.g. no disposable blog left to delete.
+	 */
+	abstract HttpRequest.Builder request(URI base, TestData data);
+
+	/**
+	 * Records what a successful response created. Only called for operations
+	 * that {@linkplain #readsBody() read their response body}.
+	 *
+	 * @param body The parsed response body.
+	 * @param data The data to add the created rows to.
+	 */
+	void onSuccess(JsonNode body, TestData data) {
+	}
+
+	/**
+	 * @return {@code true} if {@link #onSuccess} needs the response body.
+	 */
+	boolean readsBody() {
+		return this == CREATE_BLOG || this == CREATE_BLOGS_BULK || this == ADD_COMMENT;
+	}
+
+	boolean isExpected(int status) {
+		return expectedStatuses.contains(status);
+	}
+
+	private static HttpRequest.Builder get(URI base, String path) {
+		return HttpRequest.newBuilder(base.resolve(path)).timeout(TIMEOUT).GET();
+	}
+
+	private static HttpRequest.Builder send(URI base, String path, String method, String json) {
+		HttpRequest.BodyPublisher body = json == null ? HttpRequest.BodyPublishers.noBody()
+				: HttpRequest.BodyPublishers.ofString(json);
+		return HttpRequest.newBuilder(base.resolve(path)).timeout(TIMEOUT)
+				.header("Content-Type", "application/json").method(method, body);
+	}
+
+	private static String blogJson(int n) {
+		return "{\"title\":\"Load test blog " + n + "\",\"content\":\"" + TestData.contentOf(n)
+				+ "\",\"author\":\"loadtest-author-" + (n % 10) + "\"}";
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
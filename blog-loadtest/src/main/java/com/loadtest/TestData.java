@@ -0,0 +1,70 @@
+package com.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The IDs and cursors that operations pick their targets from.
+ * <p>
+ * Seeded blogs and comments are only read and updated, never deleted, so read
+ * operations always hit existing rows. Delete operations consume the
+ * disposable rows created by the run's own create operations and by seeding.
+ * </p>
+ */
+class TestData {
+
+	/**
+	 * Words seeded blog contents are made of; the search operation queries them.
+	 */
+	static final List<String> WORDS = List.of("caching", "latency", "index", "replica", "throughput",
+			"pagination", "transaction", "serialization", "pooling", "compression", "sharding", "batching");
+
+	final List<Long> blogIds;
+	final List<long[]> comments;
+	final List<String> listingCursors;
+	final List<String> authors;
+		final LocalDateTime seededFrom;
+	final LocalDateTime seededTo;
+
+	/**
+	 * Blogs that a delete operation may remove.
+	 */
+	final ConcurrentLinkedQueue<Long> disposableBlogIds = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * {@code {blogId, commentId}} pairs that a delete operation may remove.
+	 */
+	final ConcurrentLinkedQueue<long[]> disposableComments = new ConcurrentLinkedQueue<>();
+
+	TestData(List<Long> blogIds, List<long[]> comments, List<String> listingCursors, List<String> authors,
+			LocalDateTime seededFrom, LocalDateTime seededTo) {
+		this.blogIds = blogIds;
+		this.comments = comments;
+		this.listingCursors = listingCursors;
+		this.authors = authors;
+		this.seededFrom = seededFrom;
+		this.seededTo = seededTo;
+	}
+
+	long randomBlogId() {
+		return pick(blogIds);
+	}
+
+	long[] randomComment() {
+		return pick(comments);
+	}
+
+	/**
+	 * Builds a blog content of three vocabulary words, under the 200-character limit.
+	 */
+	static String contentOf(int n) {
+		return "Notes on " + WORDS.get(n % WORDS.size()) + ", " + WORDS.get(n / 3 % WORDS.size()) + " and "
+				+ WORDS.get(n / 7 % WORDS.size()) + " (" + n + ")";
+	}
+
+	static <T> T pick(List<T> values) {
+		return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+	}
+}
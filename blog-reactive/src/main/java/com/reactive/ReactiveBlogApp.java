@@ -0,0 +1,29 @@
+package com.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * The main entry point for the non-blocking variant of the blog API.
+ * <p>
+ * Requests are served by Netty's event loop (one thread per CPU core) and the
+ * database is reached through R2DBC, so a waiting client or query never holds
+ * a thread. Its configuration is read from {@code blog-reactive.properties},
+ * because the shared blog application jar on the classpath carries its own
+ * {@code application.properties}.
+ * </p>
+ */
+@SpringBootApplication
+public class ReactiveBlogApp {
+
+	/**
+	 * The main method that starts the reactive application.
+	 *
+	 * @param args Command-line arguments passed during application startup.
+	 */
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveBlogApp.class)
+				.properties("spring.config.name=blog-reactive")
+				.run(args);
+	}
+}
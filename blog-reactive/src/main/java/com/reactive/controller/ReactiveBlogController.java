@@ -0,0 +1,310 @@
+package com.reactive.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.dto.BlogDTO;
+import com.dto.BlogWithCommentDTO;
+import com.dto.CommentDTO;
+import com.dto.PageDTO;
+import com.reactive.service.ReactiveBlogService;
+import com.reactive.service.ReactiveCommentService;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking controller exposing the same {@code /api/blogs} surface as
+ * {@link com.controller.BlogController}.
+ * <p>
+ * Request and response bodies, status codes, ETags and page cursors are the
+ * same as the blog application's. The listings additionally answer
+ * {@code Accept: application/x-ndjson} with a {@link Flux} streamed one JSON
+ * document per line, covering every row after the cursor instead of one page.
+ * Bulk creation, search, export and asynchronous comment ingestion remain on
+ * the blog application.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+@Validated
+public class ReactiveBlogController {
+
+	private ReactiveBlogService blogService;
+	private ReactiveCommentService commentService;
+
+	/**
+	 * Constructor-based dependency injection for ReactiveBlogService and
+	 * ReactiveCommentService.
+	 *
+	 * @param blogService    Service for blog operations.
+	 * @param commentService Service for comment operations.
+	 */
+	public ReactiveBlogController(ReactiveBlogService blogService, ReactiveCommentService commentService) {
+		this.blogService = blogService;
+		this.commentService = commentService;
+	}
+
+	/**
+	 * Retrieves one page of blogs, newest first, optionally filtered by author
+	 * and publishing time. The same filters must be sent with every page.
+	 *
+	 * @param author The exact author name; omit it for any author.
+	 * @param from   The earliest publishing time, inclusive (ISO date-time).
+	 * @param to     The latest publishing time, exclusive (ISO date-time).
+	 * @param cursor The cursor returned with the previous page; omit it for the
+	 *               first page.
+	 * @param size   The maximum number of blogs to return.
+	 * @return ResponseEntity containing a {@link PageDTO} of {@link BlogDTO}.
+	 */
+	@GetMapping(value = "/blogs", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<ResponseEntity<PageDTO<BlogDTO>>> getAllBlogs(@RequestParam(required = false) String author,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20")
+			@Min(value = 1, message = "Page size should be between 1 and 100")
+			@Max(value = 100, message = "Page size should be between 1 and 100") int size) {
+
+		return blogService.getAllBlogs(author, from, to, cursor, size).map(blogPage -> blogPage.getItems().isEmpty()
+				? ResponseEntity.status(HttpStatus.NO_CONTENT).body(blogPage)
+				: ResponseEntity.status(HttpStatus.OK).body(blogPage));
+	}
+
+	/**
+	 * Streams every blog after the cursor, newest first, as newline-delimited JSON.
+	 *
+	 * @param author The exact author name; omit it for any author.
+	 * @param from   The earliest publishing time, inclusive (ISO date-time).
+	 * @param to     The latest publishing time, exclusive (ISO date-time).
+	 * @param cursor A cursor returned with a page; omit it to start from the newest blog.
+	 * @return A {@link Flux} of {@link BlogDTO}.
+	 */
+	@GetMapping(value = "/blogs", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<BlogDTO> streamBlogs(@RequestParam(required = false) String author,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) String cursor) {
+
+		return blogService.streamBlogs(author, from, to, cursor);
+	}
+
+	/**
+	 * Creates a new blog.
+	 *
+	 * @param blogDto The blog data transfer object.
+	 * @return ResponseEntity containing the created {@link BlogDTO}.
+	 */
+	@PostMapping("/blogs")
+	public Mono<ResponseEntity<BlogDTO>> addBlog(@Valid @RequestBody BlogDTO blogDto) {
+
+		return blogService.createBlog(blogDto).map(blog -> ResponseEntity.status(HttpStatus.CREATED).body(blog));
+	}
+
+	/**
+	 * Retrieves a blog by its ID.
+	 *
+	 * @param id          The ID of the blog.
+	 * @param ifNoneMatch The ETags the client already holds, if any.
+	 * @return ResponseEntity containing the requested {@link BlogDTO}, or 304 if
+	 *         the client's copy is current.
+	 */
+	@GetMapping("/blogs/{id}")
+	public Mono<ResponseEntity<BlogDTO>> getBlogById(
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+		Mono<ResponseEntity<BlogDTO>> body = blogService.getBlogById(id)
+				.map(blog -> ResponseEntity.status(HttpStatus.OK).eTag(toETag(blog.getVersion())).body(blog));
+		if (ifNoneMatch == null) {
+			return body;
+		}
+		return blogService.getBlogVersion(id).flatMap(version -> {
+			String currentETag = toETag(version);
+			return isETagMatched(ifNoneMatch, currentETag)
+					? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).<BlogDTO>build())
+					: body;
+		});
+	}
+
+	/**
+	 * Updates an existing blog.
+	 *
+	 * @param blogDto The updated blog data.
+	 * @param id      The ID of the blog to be updated.
+	 * @return ResponseEntity containing the updated {@link BlogDTO}.
+	 */
+	@PutMapping("/blogs/{id}")
+	public Mono<ResponseEntity<BlogDTO>> updateBlog(@Valid @RequestBody BlogDTO blogDto,
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id) {
+
+		return blogService.updateBlog(id, blogDto).map(blog -> ResponseEntity.status(HttpStatus.OK).body(blog));
+	}
+
+	/**
+	 * Deletes a blog by its ID.
+	 *
+	 * @param id The ID of the blog to be deleted.
+	 * @return ResponseEntity with a success message.
+	 */
+	@DeleteMapping("/blogs/{id}")
+	public Mono<ResponseEntity<String>> deleteBlog(
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id) {
+
+		return blogService.deleteBlog(id).thenReturn(
+				ResponseEntity.status(HttpStatus.OK).body("Successfully Deleted Blog and its Respected comment"));
+	}
+
+	/**
+	 * Retrieves a blog along with the first page of its comments.
+	 *
+	 * @param id          The ID of the blog.
+	 * @param ifNoneMatch The ETags the client already holds, if any.
+	 * @return ResponseEntity containing the {@link BlogWithCommentDTO}, or 304 if
+	 *         the client's copy is current.
+	 */
+	@GetMapping("/blogs/{id}/comment")
+	public Mono<ResponseEntity<BlogWithCommentDTO>> fetchBlogWithComment(
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+		Mono<ResponseEntity<BlogWithCommentDTO>> body = blogService.fetchBlogWithComment(id)
+				.map(blog -> ResponseEntity.status(HttpStatus.OK).eTag(toETag(blog.getVersion())).body(blog));
+		if (ifNoneMatch == null) {
+			return body;
+		}
+		return blogService.getBlogVersion(id).flatMap(version -> {
+			String currentETag = toETag(version);
+			return isETagMatched(ifNoneMatch, currentETag)
+					? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).<BlogWithCommentDTO>build())
+					: body;
+		});
+	}
+
+	/**
+	 * Retrieves one page of a blog's comments, oldest first.
+	 *
+	 * @param id     The ID of the blog.
+	 * @param cursor The cursor returned with the previous page; omit it for the
+	 *               first page.
+	 * @param size   The maximum number of comments to return.
+	 * @return ResponseEntity containing a {@link PageDTO} of {@link CommentDTO}.
+	 */
+	@GetMapping(value = "/blogs/{id}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<ResponseEntity<PageDTO<CommentDTO>>> getComments(
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20")
+			@Min(value = 1, message = "Page size should be between 1 and 100")
+			@Max(value = 100, message = "Page size should be between 1 and 100") int size) {
+
+		return commentService.getComments(id, cursor, size)
+				.map(commentPage -> ResponseEntity.status(HttpStatus.OK).body(commentPage));
+	}
+
+	/**
+	 * Streams every comment of a blog after the cursor, oldest first, as
+	 * newline-delimited JSON.
+	 *
+	 * @param id     The ID of the blog.
+	 * @param cursor A cursor returned with a page; omit it to start from the oldest comment.
+	 * @return A {@link Flux} of {@link CommentDTO}.
+	 */
+	@GetMapping(value = "/blogs/{id}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<CommentDTO> streamComments(
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestParam(required = false) String cursor) {
+
+		return commentService.streamComments(id, cursor);
+	}
+
+	/**
+	 * Adds a comment to a blog.
+	 *
+	 * @param commentDto The comment data.
+	 * @param id         The ID of the blog.
+	 * @return ResponseEntity containing the created {@link CommentDTO}.
+	 */
+	@PostMapping("/blogs/{id}/comment")
+	public Mono<ResponseEntity<CommentDTO>> addComment(@Valid @RequestBody CommentDTO commentDto,
+			@PathVariable @Positive(message = "Blogs Id should be Positive Integer") Long id) {
+
+		return commentService.createComment(id, commentDto)
+				.map(comment -> ResponseEntity.status(HttpStatus.CREATED).body(comment));
+	}
+
+	/**
+	 * Retrieves a specific comment from a blog.
+	 *
+	 * @param blogId    The ID of the blog.
+	 * @param commentId The ID of the comment.
+	 * @return ResponseEntity containing the requested {@link CommentDTO}.
+	 */
+	@GetMapping("/blogs/{blogId}/comment/{commentId}")
+	public Mono<ResponseEntity<CommentDTO>> getComment(@PathVariable Long blogId,
+			@PathVariable @Positive(message = "Blogs Id should be Positive Integer") Long commentId) {
+
+		return commentService.fetchComment(blogId, commentId)
+				.map(comment -> ResponseEntity.status(HttpStatus.OK).body(comment));
+	}
+
+	/**
+	 * Removes a specific comment from a blog.
+	 *
+	 * @param commentId The ID of the comment.
+	 * @param blogId    The ID of the blog.
+	 * @return ResponseEntity with a success message.
+	 */
+	@DeleteMapping("/blogs/{blogId}/comment/{commentId}")
+	public Mono<ResponseEntity<String>> deleteComment(
+			@PathVariable @Positive(message = "Comment Id should be Positive Integer") Long commentId,
+			@PathVariable Long blogId) {
+
+		return commentService.deleteComment(commentId, blogId)
+				.map(deleted -> ResponseEntity.status(HttpStatus.OK).body("Successfully Deleted !!! "));
+	}
+
+	/**
+	 * Builds the strong ETag of a blog representation from the blog's version,
+	 * exactly as the blog application does, so ETags are interchangeable.
+	 *
+	 * @param version The version of the blog.
+	 * @return The quoted ETag value.
+	 */
+	private static String toETag(long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * Checks an {@code If-None-Match} header against the current ETag, using the
+	 * weak comparison that RFC 9110 prescribes for this header.
+	 *
+	 * @param ifNoneMatch The raw header value, possibly a comma-separated list.
+	 * @param currentETag The current quoted ETag.
+	 * @return {@code true} if the client's copy is current.
+	 */
+	private static boolean isETagMatched(String ifNoneMatch, String currentETag) {
+		for (String candidate : ifNoneMatch.split(",")) {
+			String etag = candidate.trim();
+			if (etag.startsWith("W/")) {
+				etag = etag.substring(2);
+			}
+			if (etag.equals("*") || etag.equals(currentETag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
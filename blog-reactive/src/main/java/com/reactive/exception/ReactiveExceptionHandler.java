@@ -0,0 +1,126 @@
+package com.reactive.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.exception.BlogNotFoundException;
+import com.exception.CommentNotFoundException;
+import com.exception.InvalidCursorException;
+import com.exception.InvalidFilterException;
+
+import jakarta.validation.ConstraintViolationException;
+
+/**
+ * Exception handler for the reactive API. Answers the shared exceptions with
+ * the same status codes and {@code error}/{@code message} bodies as
+ * {@link com.exception.GlobalExceptionHandler}, mapping the WebFlux-specific
+ * binding exceptions onto their servlet counterparts.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handles exceptions when a blog or a comment is not found.
+     *
+     * @param exception The thrown {@link BlogNotFoundException} or {@link CommentNotFoundException}.
+     * @return A response entity with an error message and HTTP status 404 (Not Found).
+     */
+    @ExceptionHandler({ BlogNotFoundException.class, CommentNotFoundException.class })
+    public ResponseEntity<Map<String, Object>> handleNotFound(RuntimeException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("message", exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles pagination cursors that cannot be decoded, listing filters that
+     * contradict each other and constraint violations on request parameters.
+     *
+     * @param exception The thrown exception.
+     * @return A response entity with an error message and HTTP status 400 (Bad Request).
+     */
+    @ExceptionHandler({ InvalidCursorException.class, InvalidFilterException.class,
+            ConstraintViolationException.class })
+    public ResponseEntity<Map<String, Object>> handleBadRequest(RuntimeException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("message", exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles validation errors of request bodies.
+     *
+     * @param exception The thrown {@link WebExchangeBindException}.
+     * @return A response entity with validation error details and HTTP status 400 (Bad Request).
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleBindException(WebExchangeBindException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("message", "Constraint Validation Failed");
+
+        exception.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            errorResponse.put(fieldName, error.getDefaultMessage());
+        });
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles request parameters and bodies that cannot be read or converted,
+     * such as a malformed date-time filter.
+     *
+     * @param exception The thrown {@link ServerWebInputException}.
+     * @return A response entity with an error message and HTTP status 400 (Bad Request).
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Map<String, Object>> handleInput(ServerWebInputException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.BAD_REQUEST.value());
+        if (exception.getCause() instanceof TypeMismatchException mismatch && exception.getMethodParameter() != null) {
+            errorResponse.put("message", "Invalid value for parameter '"
+                    + exception.getMethodParameter().getParameterName() + "': " + mismatch.getValue());
+        } else {
+            errorResponse.put("message", exception.getReason());
+        }
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles requests that could not get a pooled connection within
+     * {@code spring.r2dbc.pool.max-acquire-time}, reported as
+     * {@link CannotCreateTransactionException} by transactional writes and as
+     * {@link DataAccessResourceFailureException} by single statements. Waiting
+     * requests hold no thread, so excess load queues on the pool and is shed here.
+     *
+     * @param exception The thrown exception.
+     * @return A response entity with an error message, HTTP status 503 (Service Unavailable) and a Retry-After header.
+     */
+    @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+    public ResponseEntity<Map<String, Object>> handleNoConnection(RuntimeException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("message", "Database is busy, please retry");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+}
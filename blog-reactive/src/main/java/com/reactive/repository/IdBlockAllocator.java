@@ -0,0 +1,98 @@
+package com.reactive.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out IDs from the same pooled sequences that the blog application's
+ * Hibernate generators use, without ever colliding with them.
+ * <p>
+ * Like Hibernate's pooled optimizer, each sequence value {@code v} reserves the
+ * block {@code (v - blockSize, v]}, so blocks taken by either application never
+ * overlap. IDs are then handed out from memory until the block is used up.
+ * On databases with native sequences the next value is selected; on MySQL the
+ * sequence is emulated by a table with a {@code next_val} column, which is
+ * advanced with one atomic UPDATE.
+ * </p>
+ * <p>
+ * A block must be fetched outside any transaction of the caller, so the
+ * sequence row is never locked for longer than the single statement.
+ * </p>
+ */
+public class IdBlockAllocator {
+
+    private final DatabaseClient databaseClient;
+    private final String sequence;
+    private final int blockSize;
+    private final boolean tableEmulated;
+
+    /**
+     * Next ID to hand out and last ID of the current block; guarded by {@code this}.
+     * The block is initially empty.
+     */
+    private long next = 1;
+    private long last = 0;
+
+    /**
+     * Creates an allocator for one sequence.
+     *
+     * @param databaseClient The client used to advance the sequence.
+     * @param sequence       The name of the sequence, or of the table emulating it.
+     * @param blockSize      The allocation size the sequence was created with.
+     * @param tableEmulated  Whether the sequence is emulated by a table (MySQL).
+     */
+    public IdBlockAllocator(DatabaseClient databaseClient, String sequence, int blockSize, boolean tableEmulated) {
+        this.databaseClient = databaseClient;
+        this.sequence = sequence;
+        this.blockSize = blockSize;
+        this.tableEmulated = tableEmulated;
+    }
+
+    /**
+     * Returns the next free ID, fetching a new block only when the current one is used up.
+     *
+     * @return A {@link Mono} emitting the ID.
+     */
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Long id = take();
+            return id != null ? Mono.just(id) : fetchBlockEnd().map(this::install);
+        });
+    }
+
+    private synchronized Long take() {
+        return next <= last ? next++ : null;
+    }
+
+    /**
+     * Keeps the new block if the current one is used up, and returns its first ID.
+     * When concurrent callers both fetched a block, only one is kept; the rest of
+     * the other is skipped, which wastes IDs but never reuses one.
+     */
+    private synchronized long install(long blockEnd) {
+        long first = Math.max(1, blockEnd - blockSize + 1);
+        if (next > last) {
+            next = first + 1;
+            last = blockEnd;
+        }
+        return first;
+    }
+
+    private Mono<Long> fetchBlockEnd() {
+        if (!tableEmulated) {
+            return databaseClient.sql("SELECT NEXT VALUE FOR " + sequence)
+                    .map(row -> row.get(0, Long.class))
+                    .one();
+        }
+        // Hibernate reads next_val as the block end and stores next_val + blockSize;
+        // LAST_INSERT_ID(expr) returns the stored value on this connection atomically.
+        return databaseClient.inConnection(connection -> Mono.from(connection
+                .createStatement("UPDATE " + sequence + " SET next_val = LAST_INSERT_ID(next_val + " + blockSize + ")")
+                .execute())
+                .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                .then(Mono.from(connection.createStatement("SELECT LAST_INSERT_ID()").execute()))
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Long.class))))
+                .map(stored -> stored - blockSize));
+    }
+}
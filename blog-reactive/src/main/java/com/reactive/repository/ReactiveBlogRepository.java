@@ -0,0 +1,243 @@
+package com.reactive.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.dto.BlogDTO;
+import com.dto.PageCursor;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the Blog table through R2DBC.
+ * <p>
+ * Works on the schema owned by the blog application and mirrors its JPA
+ * statements: rows are selected straight into {@link BlogDTO}, the listing is
+ * assembled from the filters that are present so each combination uses its
+ * index, and comment counters are maintained by atomic UPDATE statements.
+ * </p>
+ */
+@Repository
+public class ReactiveBlogRepository {
+
+    /**
+     * SELECT list matching the {@link BlogDTO} constructor.
+     */
+    static final String BLOG_DTO = "SELECT id, title, content, author, published_at, version, comment_count,"
+            + " last_comment_at FROM blog";
+
+    /**
+     * Number of IDs reserved per round-trip to {@code blog_seq}. Must equal the
+     * allocation size of the blog application's {@code BlogEntity}, since both
+     * hand out IDs from the same sequence.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final IdBlockAllocator idAllocator;
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param databaseClient The reactive database client.
+     * @param idSequence     {@code table} when the ID sequences are emulated by tables (MySQL),
+     *                       {@code native} otherwise.
+     */
+    public ReactiveBlogRepository(DatabaseClient databaseClient,
+            @Value("${blog.reactive.id-sequence:table}") String idSequence) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = new IdBlockAllocator(databaseClient, "blog_seq", ID_ALLOCATION_SIZE,
+                "table".equals(idSequence));
+    }
+
+    /**
+     * Reads one page of the blog listing, newest first.
+     *
+     * @param author The exact author name, or {@code null} for any author.
+     * @param from   The earliest publishing time, inclusive, or {@code null}.
+     * @param to     The latest publishing time, exclusive, or {@code null}.
+     * @param after  The position of the last blog of the previous page, or {@code null}.
+     * @param limit  The maximum number of rows to read.
+     * @return The blogs, in listing order.
+     */
+    public Flux<BlogDTO> findPage(String author, LocalDateTime from, LocalDateTime to, PageCursor after,
+            int limit) {
+        StringBuilder sql = new StringBuilder(BLOG_DTO).append(" WHERE 1 = 1");
+        if (author != null) {
+            sql.append(" AND author = :author");
+        }
+        if (from != null) {
+            sql.append(" AND published_at >= :from");
+        }
+        if (to != null) {
+            sql.append(" AND published_at < :to");
+        }
+        if (after != null) {
+            // The redundant upper bound gives the keyset predicate a plain range the index can seek to.
+            sql.append(" AND published_at <= :publishedAt")
+                    .append(" AND (published_at < :publishedAt OR (published_at = :publishedAt AND id < :id))");
+        }
+        sql.append(" ORDER BY published_at DESC, id DESC LIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("limit", limit);
+        if (author != null) {
+            spec = spec.bind("author", author);
+        }
+        if (from != null) {
+            spec = spec.bind("from", from);
+        }
+        if (to != null) {
+            spec = spec.bind("to", to);
+        }
+        if (after != null) {
+            spec = spec.bind("publishedAt", after.getTimestamp()).bind("id", after.getId());
+        }
+        return spec.map(ReactiveBlogRepository::toDTO).all();
+    }
+
+    /**
+     * Reads a blog by its ID.
+     *
+     * @param id The ID of the blog.
+     * @return The blog, or empty if it does not exist.
+     */
+    public Mono<BlogDTO> findDtoById(Long id) {
+        return databaseClient.sql(BLOG_DTO + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveBlogRepository::toDTO)
+                .one();
+    }
+
+    /**
+     * Reads only the version of a blog.
+     *
+     * @param id The ID of the blog.
+     * @return The version, or empty if the blog does not exist.
+     */
+    public Mono<Long> findVersionById(Long id) {
+        return databaseClient.sql("SELECT version FROM blog WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    /**
+     * Reserves the ID of a new blog. Must be called outside a transaction.
+     *
+     * @return The ID.
+     */
+    public Mono<Long> nextId() {
+        return idAllocator.nextId();
+    }
+
+    /**
+     * Inserts a new blog with no comments at version 0.
+     *
+     * @param blog The blog, carrying its reserved ID and publishing time.
+     * @return The number of rows inserted.
+     */
+    public Mono<Long> insert(BlogDTO blog) {
+        return databaseClient.sql("INSERT INTO blog (id, title, content, author, published_at, version, comment_count)"
+                + " VALUES (:id, :title, :content, :author, :publishedAt, 0, 0)")
+                .bind("id", blog.getId())
+                .bind("title", blog.getTitle())
+                .bind("content", blog.getContent())
+                .bind("author", blog.getAuthor())
+                .bind("publishedAt", blog.getPublishedAt())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Updates the editable columns of a blog and increments its version in one statement.
+     *
+     * @param id   The ID of the blog.
+     * @param blog The new title, content and author.
+     * @return The number of rows updated; {@code 0} if the blog does not exist.
+     */
+    public Mono<Long> update(Long id, BlogDTO blog) {
+        return databaseClient.sql("UPDATE blog SET title = :title, content = :content, author = :author,"
+                + " version = version + 1 WHERE id = :id")
+                .bind("id", id)
+                .bind("title", blog.getTitle())
+                .bind("content", blog.getContent())
+                .bind("author", blog.getAuthor())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Records new comments on a blog in a single atomic UPDATE, like the blog
+     * application does. Must be called inside a transaction.
+     *
+     * @param id          The ID of the blog.
+     * @param count       The number of comments added.
+     * @param commentedAt The creation time of the newest added comment.
+     * @return The number of rows updated; {@code 0} if the blog does not exist.
+     */
+    public Mono<Long> incrementCommentCount(Long id, long count, LocalDateTime commentedAt) {
+        return databaseClient.sql("UPDATE blog SET comment_count = comment_count + :count, version = version + 1,"
+                + " last_comment_at = CASE WHEN last_comment_at IS NULL OR last_comment_at < :commentedAt"
+                + " THEN :commentedAt ELSE last_comment_at END"
+                + " WHERE id = :id")
+                .bind("id", id)
+                .bind("count", count)
+                .bind("commentedAt", commentedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Records the removal of a comment from a blog in a single atomic UPDATE.
+     * Must be called inside a transaction, after the comment has been deleted.
+     *
+     * @param id The ID of the blog.
+     * @return The number of rows updated; {@code 0} if the blog does not exist.
+     */
+    public Mono<Long> decrementCommentCount(Long id) {
+        return databaseClient.sql("UPDATE blog SET comment_count = comment_count - 1, version = version + 1,"
+                + " last_comment_at = (SELECT MAX(c.created_at) FROM comment c WHERE c.blog_id = :id)"
+                + " WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Locks a blog row for the rest of the current transaction.
+     *
+     * @param id The ID of the blog.
+     * @return The ID, or empty if the blog does not exist.
+     */
+    public Mono<Long> lockById(Long id) {
+        return databaseClient.sql("SELECT id FROM blog WHERE id = :id FOR UPDATE")
+                .bind("id", id)
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /**
+     * Deletes a blog row with a single DELETE statement.
+     *
+     * @param id The ID of the blog.
+     * @return The number of rows deleted.
+     */
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM blog WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static BlogDTO toDTO(Readable row) {
+        return new BlogDTO(row.get("id", Long.class), row.get("title", String.class),
+                row.get("content", String.class), row.get("author", String.class),
+                row.get("published_at", LocalDateTime.class), row.get("version", Long.class),
+                row.get("comment_count", Long.class), row.get("last_comment_at", LocalDateTime.class));
+    }
+}
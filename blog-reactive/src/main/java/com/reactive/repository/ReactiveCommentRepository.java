@@ -0,0 +1,171 @@
+package com.reactive.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.dto.CommentDTO;
+import com.dto.PageCursor;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the Comment table through R2DBC.
+ * <p>
+ * Mirrors the blog application's JPA statements: comments are read straight
+ * into {@link CommentDTO} with keyset pagination, and deletes are scoped to
+ * their blog so a comment of another blog is never touched.
+ * </p>
+ */
+@Repository
+public class ReactiveCommentRepository {
+
+    /**
+     * SELECT list matching the {@link CommentDTO} constructor.
+     */
+    static final String COMMENT_DTO = "SELECT id, comment, blog_id, created_at FROM comment";
+
+    /**
+     * Number of IDs reserved per round-trip to {@code comment_seq}. Must equal the
+     * allocation size of the blog application's {@code CommentEntity}, since both
+     * hand out IDs from the same sequence.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final IdBlockAllocator idAllocator;
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param databaseClient The reactive database client.
+     * @param idSequence     {@code table} when the ID sequences are emulated by tables (MySQL),
+     *                       {@code native} otherwise.
+     */
+    public ReactiveCommentRepository(DatabaseClient databaseClient,
+            @Value("${blog.reactive.id-sequence:table}") String idSequence) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = new IdBlockAllocator(databaseClient, "comment_seq", ID_ALLOCATION_SIZE,
+                "table".equals(idSequence));
+    }
+
+    /**
+     * Reads one page of the comments of a blog, oldest first.
+     *
+     * @param blogId The ID of the blog.
+     * @param after  The position of the last comment of the previous page, or {@code null}.
+     * @param limit  The maximum number of rows to read.
+     * @return The comments, in listing order.
+     */
+    public Flux<CommentDTO> findPage(Long blogId, PageCursor after, int limit) {
+        if (after == null) {
+            return databaseClient.sql(COMMENT_DTO + " WHERE blog_id = :blogId ORDER BY created_at, id LIMIT :limit")
+                    .bind("blogId", blogId)
+                    .bind("limit", limit)
+                    .map(ReactiveCommentRepository::toDTO)
+                    .all();
+        }
+        return databaseClient.sql(COMMENT_DTO + " WHERE blog_id = :blogId"
+                + " AND (created_at > :createdAt OR (created_at = :createdAt AND id > :id))"
+                + " ORDER BY created_at, id LIMIT :limit")
+                .bind("blogId", blogId)
+                .bind("createdAt", after.getTimestamp())
+                .bind("id", after.getId())
+                .bind("limit", limit)
+                .map(ReactiveCommentRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Reads a comment by its ID, scoped to the blog it belongs to.
+     *
+     * @param commentId The ID of the comment.
+     * @param blogId    The ID of the blog.
+     * @return The comment, or empty if the blog has no such comment.
+     */
+    public Mono<CommentDTO> findByIdAndBlogId(Long commentId, Long blogId) {
+        return databaseClient.sql(COMMENT_DTO + " WHERE id = :commentId AND blog_id = :blogId")
+                .bind("commentId", commentId)
+                .bind("blogId", blogId)
+                .map(ReactiveCommentRepository::toDTO)
+                .one();
+    }
+
+    /**
+     * Reserves the ID of a new comment. Must be called outside a transaction.
+     *
+     * @return The ID.
+     */
+    public Mono<Long> nextId() {
+        return idAllocator.nextId();
+    }
+
+    /**
+     * Inserts a new comment.
+     *
+     * @param comment The comment, carrying its reserved ID, blog ID and creation time.
+     * @return The number of rows inserted.
+     */
+    public Mono<Long> insert(CommentDTO comment) {
+        return databaseClient.sql("INSERT INTO comment (id, blog_id, comment, created_at)"
+                + " VALUES (:id, :blogId, :comment, :createdAt)")
+                .bind("id", comment.getId())
+                .bind("blogId", comment.getBlogId())
+                .bind("comment", comment.getComment())
+                .bind("createdAt", comment.getCreatedAt())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes a comment by its ID, scoped to the blog it belongs to.
+     *
+     * @param commentId The ID of the comment.
+     * @param blogId    The ID of the blog.
+     * @return The number of rows deleted; {@code 0} if the blog has no such comment.
+     */
+    public Mono<Long> deleteByIdAndBlogId(Long commentId, Long blogId) {
+        return databaseClient.sql("DELETE FROM comment WHERE id = :commentId AND blog_id = :blogId")
+                .bind("commentId", commentId)
+                .bind("blogId", blogId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes at most {@code limit} comments of a blog with one DELETE statement.
+     *
+     * @param blogId The ID of the blog.
+     * @param limit  The maximum number of comments to delete.
+     * @return The number of rows deleted.
+     */
+    public Mono<Long> deleteChunkByBlogId(Long blogId, int limit) {
+        return databaseClient.sql("DELETE FROM comment WHERE blog_id = :blogId LIMIT :limit")
+                .bind("blogId", blogId)
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes all comments of a blog with one DELETE statement.
+     *
+     * @param blogId The ID of the blog.
+     * @return The number of rows deleted.
+     */
+    public Mono<Long> deleteAllByBlogId(Long blogId) {
+        return databaseClient.sql("DELETE FROM comment WHERE blog_id = :blogId")
+                .bind("blogId", blogId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static CommentDTO toDTO(Readable row) {
+        return new CommentDTO(row.get("id", Long.class), row.get("comment", String.class),
+                row.get("blog_id", Long.class), row.get("created_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.reactive.service;
+
+import java.time.LocalDateTime;
+
+import com.dto.BlogDTO;
+import com.dto.BlogWithCommentDTO;
+import com.dto.PageDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link com.service.BlogService}.
+ * Defines the same blog operations, returning {@link Mono} and {@link Flux}.
+ */
+public interface ReactiveBlogService {
+
+    /**
+     * Retrieves one page of blogs, newest first, optionally filtered by author
+     * and publishing time.
+     *
+     * @param author The exact author name, or {@code null} for any author.
+     * @param from   The earliest publishing time, inclusive, or {@code null}.
+     * @param to     The latest publishing time, exclusive, or {@code null}.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size   The maximum number of blogs to return.
+     * @return A {@link PageDTO} of {@link BlogDTO} with the cursor of the next page.
+     */
+    Mono<PageDTO<BlogDTO>> getAllBlogs(String author, LocalDateTime from, LocalDateTime to, String cursor,
+            int size);
+
+    /**
+     * Streams every blog after the cursor, newest first, with the same filters
+     * as {@link #getAllBlogs}. Further rows are only read as the client consumes them.
+     *
+     * @param author The exact author name, or {@code null} for any author.
+     * @param from   The earliest publishing time, inclusive, or {@code null}.
+     * @param to     The latest publishing time, exclusive, or {@code null}.
+     * @param cursor A cursor returned with a page, or {@code null} to start from the newest blog.
+     * @return A {@link Flux} of {@link BlogDTO}.
+     */
+    Flux<BlogDTO> streamBlogs(String author, LocalDateTime from, LocalDateTime to, String cursor);
+
+    /**
+     * Creates a new blog.
+     *
+     * @param blogDto The {@link BlogDTO} containing blog details.
+     * @return The created {@link BlogDTO}.
+     */
+    Mono<BlogDTO> createBlog(BlogDTO blogDto);
+
+    /**
+     * Retrieves a blog by its ID.
+     *
+     * @param blogId The ID of the blog.
+     * @return The corresponding {@link BlogDTO}.
+     */
+    Mono<BlogDTO> getBlogById(Long blogId);
+
+    /**
+     * Retrieves only the current version of a blog.
+     *
+     * @param blogId The ID of the blog.
+     * @return The version of the blog.
+     */
+    Mono<Long> getBlogVersion(Long blogId);
+
+    /**
+     * Updates an existing blog.
+     *
+     * @param id      The ID of the blog to update.
+     * @param blogDto The {@link BlogDTO} containing updated details.
+     * @return The updated {@link BlogDTO}.
+     */
+    Mono<BlogDTO> updateBlog(Long id, BlogDTO blogDto);
+
+    /**
+     * Deletes a blog together with all of its comments.
+     *
+     * @param id The ID of the blog to delete.
+     * @return A {@link Mono} completing once the blog is deleted.
+     */
+    Mono<Void> deleteBlog(Long id);
+
+    /**
+     * Fetches a blog along with the first page of its comments.
+     *
+     * @param blogId The ID of the blog.
+     * @return The {@link BlogWithCommentDTO} containing blog details and comments.
+     */
+    Mono<BlogWithCommentDTO> fetchBlogWithComment(Long blogId);
+}
@@ -0,0 +1,61 @@
+package com.reactive.service;
+
+import com.dto.CommentDTO;
+import com.dto.PageDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link com.service.CommentService}.
+ * Defines the same comment operations, returning {@link Mono} and {@link Flux}.
+ */
+public interface ReactiveCommentService {
+
+    /**
+     * Creates a new comment for a given blog.
+     *
+     * @param blogId     The ID of the blog where the comment will be added.
+     * @param commentDto The {@link CommentDTO} containing the comment details.
+     * @return The created {@link CommentDTO}.
+     */
+    Mono<CommentDTO> createComment(Long blogId, CommentDTO commentDto);
+
+    /**
+     * Fetches a specific comment from a blog.
+     *
+     * @param blogId    The ID of the blog.
+     * @param commentId The ID of the comment to fetch.
+     * @return The {@link CommentDTO} representing the retrieved comment.
+     */
+    Mono<CommentDTO> fetchComment(Long blogId, Long commentId);
+
+    /**
+     * Retrieves one page of comments of a blog, oldest first.
+     *
+     * @param blogId The ID of the blog.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size   The maximum number of comments to return.
+     * @return A {@link PageDTO} of {@link CommentDTO} with the cursor of the next page.
+     */
+    Mono<PageDTO<CommentDTO>> getComments(Long blogId, String cursor, int size);
+
+    /**
+     * Streams every comment of a blog after the cursor, oldest first. Further
+     * rows are only read as the client consumes them.
+     *
+     * @param blogId The ID of the blog.
+     * @param cursor A cursor returned with a page, or {@code null} to start from the oldest comment.
+     * @return A {@link Flux} of {@link CommentDTO}.
+     */
+    Flux<CommentDTO> streamComments(Long blogId, String cursor);
+
+    /**
+     * Deletes a specific comment from a blog.
+     *
+     * @param commentId The ID of the comment to delete.
+     * @param blogId    The ID of the blog.
+     * @return {@code true} once the comment is deleted.
+     */
+    Mono<Boolean> deleteComment(Long commentId, Long blogId);
+}
@@ -0,0 +1,191 @@
+package com.reactive.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.dto.BlogDTO;
+import com.dto.BlogWithCommentDTO;
+import com.dto.PageCursor;
+import com.dto.PageDTO;
+import com.exception.BlogNotFoundException;
+import com.exception.InvalidFilterException;
+import com.mapper.BlogMapper;
+import com.mapper.CommentMapper;
+import com.mapper.CursorMapper;
+import com.reactive.repository.ReactiveBlogRepository;
+import com.reactive.repository.ReactiveCommentRepository;
+import com.reactive.service.ReactiveBlogService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link ReactiveBlogService}, applying the same rules as
+ * {@link com.service.impl.BlogServiceImpl} on a non-blocking stack.
+ * Pages are trimmed and their cursors encoded by the shared {@link BlogMapper}
+ * and {@link CursorMapper}, so cursors are interchangeable between both
+ * applications. Single statements run on their own; statements that must
+ * commit together run through the {@link TransactionalOperator}.
+ * There is no result cache and no full-text index here: those live in the
+ * blog application, whose search index only sees blogs written by it.
+ */
+@Service
+public class ReactiveBlogServiceImpl implements ReactiveBlogService {
+
+    private final ReactiveBlogRepository blogRepo;
+    private final ReactiveCommentRepository commentRepo;
+    private final TransactionalOperator transactionalOperator;
+    private final int commentPageSize;
+    private final int streamPageSize;
+    private final int deleteChunkSize;
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param blogRepo              The {@link ReactiveBlogRepository} for blog rows.
+     * @param commentRepo           The {@link ReactiveCommentRepository} for comment rows.
+     * @param transactionalOperator Operator wrapping multi-statement writes in a transaction.
+     * @param commentPageSize       The number of comments returned with a blog.
+     * @param streamPageSize        The number of rows read per query when streaming.
+     * @param deleteChunkSize       The maximum number of comments deleted per statement.
+     */
+    public ReactiveBlogServiceImpl(ReactiveBlogRepository blogRepo, ReactiveCommentRepository commentRepo,
+            TransactionalOperator transactionalOperator,
+            @Value("${blog.comments.page-size:20}") int commentPageSize,
+            @Value("${blog.stream.page-size:100}") int streamPageSize,
+            @Value("${blog.delete.chunk-size:1000}") int deleteChunkSize) {
+        this.blogRepo = blogRepo;
+        this.commentRepo = commentRepo;
+        this.transactionalOperator = transactionalOperator;
+        this.commentPageSize = commentPageSize;
+        this.streamPageSize = streamPageSize;
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    /**
+     * Retrieves one page of blogs, newest first, using keyset pagination.
+     * One extra row is read to find out whether a further page exists. The
+     * rows are collected before the page is emitted, so the connection goes
+     * back to the pool before the response is written to the client.
+     *
+     * @throws com.exception.InvalidCursorException If the cursor cannot be decoded.
+     * @throws InvalidFilterException If {@code from} is not before {@code to}.
+     */
+    @Override
+    public Mono<PageDTO<BlogDTO>> getAllBlogs(String author, LocalDateTime from, LocalDateTime to, String cursor,
+            int size) {
+        return Mono.defer(() -> {
+            if (from != null && to != null && !from.isBefore(to)) {
+                return Mono.error(new InvalidFilterException("Publishing time 'from' must be before 'to'"));
+            }
+            String authorFilter = (author == null || author.isBlank()) ? null : author;
+            PageCursor after = (cursor == null || cursor.isBlank()) ? null : CursorMapper.decode(cursor);
+
+            return blogRepo.findPage(authorFilter, from, to, after, size + 1)
+                    .collectList()
+                    .map(blogList -> BlogMapper.convertToPage(blogList, size));
+        });
+    }
+
+    /**
+     * Streams the listing as a chain of keyset pages of {@code blog.stream.page-size}
+     * rows. A page is only queried once the client has consumed the previous
+     * one, and no connection is held while rows wait to be written, so slow
+     * clients cost memory for one page each but never a pooled connection.
+     */
+    @Override
+    public Flux<BlogDTO> streamBlogs(String author, LocalDateTime from, LocalDateTime to, String cursor) {
+        return getAllBlogs(author, from, to, cursor, streamPageSize)
+                .expand(page -> page.getNextCursor() == null ? Mono.empty()
+                        : getAllBlogs(author, from, to, page.getNextCursor(), streamPageSize))
+                .concatMapIterable(PageDTO::getItems, 1);
+    }
+
+    /**
+     * Creates a new blog. The ID is reserved before the insert, outside any
+     * transaction, and the publishing time is set at the column's precision.
+     */
+    @Override
+    public Mono<BlogDTO> createBlog(BlogDTO blogDto) {
+        return blogRepo.nextId().flatMap(id -> {
+            BlogDTO blog = new BlogDTO(id, blogDto.getTitle(), blogDto.getContent(), blogDto.getAuthor(),
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), 0L, 0L, null);
+            return blogRepo.insert(blog).thenReturn(blog);
+        });
+    }
+
+    /**
+     * @throws BlogNotFoundException If no blog is found with the given ID.
+     */
+    @Override
+    public Mono<BlogDTO> getBlogById(Long blogId) {
+        return blogRepo.findDtoById(blogId)
+                .switchIfEmpty(Mono.error(() -> new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist")));
+    }
+
+    /**
+     * @throws BlogNotFoundException If no blog is found with the given ID.
+     */
+    @Override
+    public Mono<Long> getBlogVersion(Long blogId) {
+        return blogRepo.findVersionById(blogId)
+                .switchIfEmpty(Mono.error(() -> new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist")));
+    }
+
+    /**
+     * Updates an existing blog and reads it back in one transaction, so the
+     * returned DTO carries the incremented version.
+     *
+     * @throws BlogNotFoundException If no blog is found with the given ID.
+     */
+    @Override
+    public Mono<BlogDTO> updateBlog(Long id, BlogDTO blogDto) {
+        return blogRepo.update(id, blogDto)
+                .flatMap(updated -> updated == 0
+                        ? Mono.<BlogDTO>error(new BlogNotFoundException("No Blog Found with ID: " + id))
+                        : blogRepo.findDtoById(id))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Deletes a blog together with all of its comments, like the blog
+     * application: comments go in chunks of at most {@code blog.delete.chunk-size}
+     * rows, each statement committing on its own, then one transaction locks the
+     * blog row, removes any comment that arrived meanwhile and deletes the blog.
+     *
+     * @throws BlogNotFoundException If no blog is found with the given ID.
+     */
+    @Override
+    public Mono<Void> deleteBlog(Long id) {
+        Mono<Void> deleteBlogRow = blogRepo.lockById(id)
+                .switchIfEmpty(Mono.error(() -> new BlogNotFoundException("No Blog Found with ID: " + id)))
+                .then(commentRepo.deleteAllByBlogId(id))
+                .then(blogRepo.deleteById(id))
+                .then()
+                .as(transactionalOperator::transactional);
+        return deleteCommentChunks(id).then(deleteBlogRow);
+    }
+
+    private Mono<Void> deleteCommentChunks(Long id) {
+        return commentRepo.deleteChunkByBlogId(id, deleteChunkSize)
+                .flatMap(deleted -> deleted == deleteChunkSize ? deleteCommentChunks(id) : Mono.empty());
+    }
+
+    /**
+     * Fetches a blog along with the first page of its comments, one query after
+     * the other so a request never holds two connections.
+     *
+     * @throws BlogNotFoundException If no blog is found with the given ID.
+     */
+    @Override
+    public Mono<BlogWithCommentDTO> fetchBlogWithComment(Long blogId) {
+        return getBlogById(blogId).flatMap(blog -> commentRepo.findPage(blogId, null, commentPageSize + 1)
+                .collectList()
+                .map(commentList -> BlogMapper.convertToBlogWithCommentDTO(blog,
+                        CommentMapper.convertToPage(commentList, commentPageSize))));
+    }
+}
@@ -0,0 +1,151 @@
+package com.reactive.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.dto.CommentDTO;
+import com.dto.PageCursor;
+import com.dto.PageDTO;
+import com.exception.BlogNotFoundException;
+import com.exception.CommentNotFoundException;
+import com.mapper.CommentMapper;
+import com.mapper.CursorMapper;
+import com.reactive.repository.ReactiveBlogRepository;
+import com.reactive.repository.ReactiveCommentRepository;
+import com.reactive.service.ReactiveBlogService;
+import com.reactive.service.ReactiveCommentService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link ReactiveCommentService}, applying the same rules as
+ * {@link com.service.impl.CommentServiceImpl} on a non-blocking stack.
+ * Adding or removing a comment updates the blog's comment count, last-comment
+ * time and version with one atomic UPDATE in the same transaction. The blog's
+ * existence is only checked where no other statement reveals it.
+ */
+@Service
+public class ReactiveCommentServiceImpl implements ReactiveCommentService {
+
+	private final ReactiveCommentRepository commentRepo;
+	private final ReactiveBlogRepository blogRepo;
+	private final ReactiveBlogService blogService;
+	private final TransactionalOperator transactionalOperator;
+	private final int streamPageSize;
+
+	/**
+	 * Constructor-based dependency injection.
+	 *
+	 * @param commentRepo           Repository for comments.
+	 * @param blogRepo              Repository for blogs.
+	 * @param blogService           Service used for blog existence checks.
+	 * @param transactionalOperator Operator wrapping multi-statement writes in a transaction.
+	 * @param streamPageSize        The number of rows read per query when streaming.
+	 */
+	public ReactiveCommentServiceImpl(ReactiveCommentRepository commentRepo, ReactiveBlogRepository blogRepo,
+			ReactiveBlogService blogService, TransactionalOperator transactionalOperator,
+			@Value("${blog.stream.page-size:100}") int streamPageSize) {
+		this.commentRepo = commentRepo;
+		this.blogRepo = blogRepo;
+		this.blogService = blogService;
+		this.transactionalOperator = transactionalOperator;
+		this.streamPageSize = streamPageSize;
+	}
+
+	/**
+	 * Creates a new comment without reading the blog. The ID is reserved first,
+	 * outside the transaction. Inside it, the counter UPDATE runs first: zero
+	 * updated rows means the blog does not exist. The comment is then inserted
+	 * with the creation time recorded as the blog's last-comment time.
+	 *
+	 * @throws BlogNotFoundException If the blog does not exist.
+	 */
+	@Override
+	public Mono<CommentDTO> createComment(Long blogId, CommentDTO commentDto) {
+		return commentRepo.nextId().flatMap(id -> {
+			CommentDTO comment = new CommentDTO(id, commentDto.getComment(), blogId,
+					LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+			return blogRepo.incrementCommentCount(blogId, 1, comment.getCreatedAt())
+					.flatMap(updated -> updated == 0
+							? Mono.<CommentDTO>error(new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist"))
+							: commentRepo.insert(comment).thenReturn(comment))
+					.as(transactionalOperator::transactional);
+		});
+	}
+
+	/**
+	 * Fetches a specific comment with a single query scoped to the blog.
+	 *
+	 * @throws BlogNotFoundException    If the blog does not exist.
+	 * @throws CommentNotFoundException If the comment is not found for the given blog.
+	 */
+	@Override
+	public Mono<CommentDTO> fetchComment(Long blogId, Long commentId) {
+		return commentRepo.findByIdAndBlogId(commentId, blogId)
+				.switchIfEmpty(commentNotFound(blogId, commentId));
+	}
+
+	/**
+	 * Retrieves one page of comments using keyset pagination. The blog's
+	 * existence is only checked when the page comes back empty.
+	 *
+	 * @throws BlogNotFoundException If the blog does not exist.
+	 */
+	@Override
+	public Mono<PageDTO<CommentDTO>> getComments(Long blogId, String cursor, int size) {
+		return Mono.defer(() -> {
+			PageCursor after = (cursor == null || cursor.isBlank()) ? null : CursorMapper.decode(cursor);
+			return commentRepo.findPage(blogId, after, size + 1).collectList();
+		})
+				.flatMap(commentList -> commentList.isEmpty()
+						? blogService.getBlogVersion(blogId).thenReturn(commentList)
+						: Mono.just(commentList))
+				.map(commentList -> CommentMapper.convertToPage(commentList, size));
+	}
+
+	/**
+	 * Streams the comments as a chain of keyset pages of {@code blog.stream.page-size}
+	 * rows, each queried only once the client has consumed the previous one.
+	 *
+	 * @throws BlogNotFoundException If the blog does not exist.
+	 */
+	@Override
+	public Flux<CommentDTO> streamComments(Long blogId, String cursor) {
+		return getComments(blogId, cursor, streamPageSize)
+				.expand(page -> page.getNextCursor() == null ? Mono.empty()
+						: getComments(blogId, page.getNextCursor(), streamPageSize))
+				.concatMapIterable(PageDTO::getItems, 1);
+	}
+
+	/**
+	 * Deletes a specific comment with a single DELETE scoped to the blog and,
+	 * on success, updates the blog's counters in the same transaction.
+	 *
+	 * @throws BlogNotFoundException    If the blog does not exist.
+	 * @throws CommentNotFoundException If the comment is not found for the given blog.
+	 */
+	@Override
+	public Mono<Boolean> deleteComment(Long commentId, Long blogId) {
+		return commentRepo.deleteByIdAndBlogId(commentId, blogId)
+				.flatMap(deleted -> deleted == 0
+						? commentNotFound(blogId, commentId)
+						: blogRepo.decrementCommentCount(blogId))
+				.thenReturn(true)
+				.as(transactionalOperator::transactional);
+	}
+
+	/**
+	 * Fails with the exception for a comment missing from a blog, after checking
+	 * whether the blog itself exists; if it does not, fails with
+	 * {@link BlogNotFoundException} instead.
+	 */
+	private <T> Mono<T> commentNotFound(Long blogId, Long commentId) {
+		return blogService.getBlogVersion(blogId).then(Mono.error(() -> new CommentNotFoundException(
+				"No comment found with ID " + commentId + " for blog: " + blogId)));
+	}
+}
@@ -0,0 +1,24 @@
+-- Schema generated by the blog application's entities, for the embedded database of the "local" profile.
+CREATE SEQUENCE IF NOT EXISTS blog_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS blog (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(255),
+    content VARCHAR(255),
+    author VARCHAR(255),
+    published_at TIMESTAMP(6) NOT NULL,
+    version BIGINT NOT NULL,
+    comment_count BIGINT DEFAULT 0 NOT NULL,
+    last_comment_at TIMESTAMP(6)
+);
+CREATE INDEX IF NOT EXISTS idx_blog_published_at_id ON blog (published_at, id);
+CREATE INDEX IF NOT EXISTS idx_blog_author_published_at_id ON blog (author, published_at, id);
+
+CREATE TABLE IF NOT EXISTS comment (
+    id BIGINT NOT NULL PRIMARY KEY,
+    blog_id BIGINT REFERENCES blog (id),
+    comment VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_comment_blog_created_at_id ON comment (blog_id, created_at, id);
@@ -0,0 +1,149 @@
+package com.reactive.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.dto.BlogDTO;
+import com.dto.CommentDTO;
+
+/**
+ * End-to-end tests of {@link ReactiveBlogController} on the embedded H2
+ * database of the "local" profile, through the full WebFlux and R2DBC stack.
+ */
+@SpringBootTest(properties = "spring.config.name=blog-reactive")
+@ActiveProfiles("local")
+@AutoConfigureWebTestClient
+class ReactiveBlogControllerTest {
+
+	private static final long MISSING_ID = 999_999_999L;
+
+	@Autowired
+	private WebTestClient webClient;
+
+	@Test
+	void createsAndGetsBlog() {
+		BlogDTO created = createBlog("Reactive title", "Get by ID");
+
+		assertThat(created.getId()).isNotNull();
+		assertThat(created.getVersion()).isNotNull();
+		webClient.get().uri("/api/blogs/{id}", created.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + created.getVersion() + "\"")
+				.expectBody()
+				.jsonPath("$.id").isEqualTo(created.getId())
+				.jsonPath("$.title").isEqualTo("Reactive title")
+				.jsonPath("$.content").isEqualTo("Get by ID");
+	}
+
+	@Test
+	void answersNotModifiedForCurrentETag() {
+		BlogDTO created = createBlog("Cached title", "Conditional get");
+
+		webClient.get().uri("/api/blogs/{id}", created.getId())
+				.header(HttpHeaders.IF_NONE_MATCH, "\"" + created.getVersion() + "\"")
+				.exchange()
+				.expectStatus().isNotModified()
+				.expectBody().isEmpty();
+	}
+
+	@Test
+	void rejectsInvalidBlog() {
+		webClient.post().uri("/api/blogs")
+				.bodyValue(Map.of("title", "x", "content", "Too short a title", "author", "Tester"))
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.title").exists();
+	}
+
+	@Test
+	void listsBlogs() {
+		BlogDTO created = createBlog("Listed title", "Appears in the listing");
+
+		webClient.get().uri("/api/blogs?size=100")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.items[?(@.id == %s)]", created.getId()).exists();
+	}
+
+	@Test
+	void addsAndListsComments() {
+		BlogDTO blog = createBlog("Commented title", "Has comments");
+		CommentDTO comment = webClient.post().uri("/api/blogs/{id}/comment", blog.getId())
+				.bodyValue(Map.of("comment", "First comment"))
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody(CommentDTO.class)
+				.returnResult().getResponseBody();
+
+		assertThat(comment.getId()).isNotNull();
+		webClient.get().uri("/api/blogs/{blogId}/comment/{commentId}", blog.getId(), comment.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.comment").isEqualTo("First comment");
+		webClient.get().uri("/api/blogs/{id}/comments", blog.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.items.length()").isEqualTo(1)
+				.jsonPath("$.items[0].id").isEqualTo(comment.getId());
+		webClient.get().uri("/api/blogs/{id}/comment", blog.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.commentCount").isEqualTo(1)
+				.jsonPath("$.comments[0].comment").isEqualTo("First comment");
+	}
+
+	@Test
+	void answersNotFoundForMissingBlog() {
+		expectNotFound(webClient.get().uri("/api/blogs/{id}", MISSING_ID).exchange());
+		expectNotFound(webClient.get().uri("/api/blogs/{id}/comment", MISSING_ID).exchange());
+		expectNotFound(webClient.get().uri("/api/blogs/{id}/comments", MISSING_ID).exchange());
+		expectNotFound(webClient.put().uri("/api/blogs/{id}", MISSING_ID)
+				.bodyValue(Map.of("title", "Updated title", "content", "Updated content", "author", "Tester"))
+				.exchange());
+		expectNotFound(webClient.post().uri("/api/blogs/{id}/comment", MISSING_ID)
+				.bodyValue(Map.of("comment", "Orphan comment"))
+				.exchange());
+	}
+
+	@Test
+	void answersNotFoundForMissingComment() {
+		BlogDTO blog = createBlog("Uncommented title", "Has no comments");
+
+		expectNotFound(webClient.get().uri("/api/blogs/{blogId}/comment/{commentId}", blog.getId(), MISSING_ID)
+				.exchange());
+		expectNotFound(webClient.delete().uri("/api/blogs/{blogId}/comment/{commentId}", blog.getId(), MISSING_ID)
+				.exchange());
+	}
+
+	private BlogDTO createBlog(String title, String content) {
+		return webClient.post().uri("/api/blogs")
+				.bodyValue(Map.of("title", title, "content", content, "author", "Tester"))
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody(BlogDTO.class)
+				.returnResult().getResponseBody();
+	}
+
+	private static void expectNotFound(WebTestClient.ResponseSpec response) {
+		response.expectStatus().isEqualTo(HttpStatus.NOT_FOUND)
+				.expectBody()
+				.jsonPath("$.error").isEqualTo(404)
+				.jsonPath("$.message").exists();
+	}
+}
@@ -0,0 +1,48 @@
+package com.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary encodings of the API's bodies, chosen by content negotiation.
+ * <p>
+ * Clients sending {@code Accept: application/x-jackson-smile} or
+ * {@code Accept: application/cbor} get the same documents as the JSON clients,
+ * encoded in Smile or CBOR, and may send request bodies in those formats too.
+ * The converters are built from Spring Boot's {@link Jackson2ObjectMapperBuilder},
+ * so they share the JSON mapper's settings, such as ISO date-times. Spring Boot
+ * puts them in place of its default Smile and CBOR converters, behind the JSON
+ * converter, so clients that accept any type still get JSON.
+ * </p>
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+	/** The media type of Smile, binary JSON. */
+	public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+	/**
+	 * @param builder Spring Boot's object mapper builder, a fresh one per injection point.
+	 * @return The Smile converter.
+	 */
+	@Bean
+	MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+
+	/**
+	 * @param builder Spring Boot's object mapper builder, a fresh one per injection point.
+	 * @return The CBOR converter.
+	 */
+	@Bean
+	MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+}
@@ -0,0 +1,110 @@
+package com.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Picks the format a response body is written in before the body exists, so
+ * conditional requests can be answered with 304 without loading it.
+ * <p>
+ * The choice is made from Spring MVC's own {@link ContentNegotiationManager}
+ * and message converters, with the rules Spring MVC applies when it writes a
+ * body: the client's most specific, highest-quality acceptable type decides,
+ * and among the types it allows the converters' order does. Controllers set
+ * the chosen type as the response's {@code Content-Type}, which Spring MVC then
+ * writes the body in instead of negotiating again, so the body always matches
+ * the ETag built from it.
+ * </p>
+ */
+@Component
+public class BodyFormatNegotiator {
+
+	private final ContentNegotiationManager contentNegotiationManager;
+	private final List<HttpMessageConverter<?>> converters;
+
+	/**
+	 * Constructor-based dependency injection.
+	 *
+	 * @param contentNegotiationManager Spring MVC's content negotiation strategy.
+	 * @param converters                The message converters Spring MVC writes bodies with.
+	 */
+	public BodyFormatNegotiator(
+			@Qualifier("mvcContentNegotiationManager") ContentNegotiationManager contentNegotiationManager,
+			HttpMessageConverters converters) {
+		this.contentNegotiationManager = contentNegotiationManager;
+		this.converters = converters.getConverters();
+	}
+
+	/**
+	 * @param request  The current request.
+	 * @param bodyType The type of the response body.
+	 * @return The media type the body is to be written in, or {@code null} if
+	 *         no converter can write a type the client accepts, which Spring MVC
+	 *         answers with 406 once it writes the body.
+	 */
+	public MediaType negotiate(HttpServletRequest request, Class<?> bodyType) {
+		List<MediaType> acceptable;
+		try {
+			acceptable = contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
+		} catch (HttpMediaTypeNotAcceptableException e) {
+			return null;
+		}
+
+		List<MediaType> compatible = new ArrayList<>();
+		for (MediaType requested : acceptable) {
+			for (MediaType producible : producibleTypes(bodyType)) {
+				if (requested.isCompatibleWith(producible)) {
+					MediaType produced = producible.copyQualityValue(requested);
+					compatible.add(requested.isLessSpecific(produced) ? produced : requested);
+				}
+			}
+		}
+		MimeTypeUtils.sortBySpecificity(compatible);
+		for (MediaType type : compatible) {
+			if (type.isConcrete()) {
+				return type.removeQualityValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Builds the weak ETag of one representation of a versioned resource. JSON,
+	 * the default format, has the bare version; other formats append their
+	 * name, such as {@code W/"7-smile"}, since each is a different
+	 * representation.
+	 *
+	 * @param version The version of the resource.
+	 * @param format  The negotiated body format.
+	 * @return The ETag value.
+	 */
+	public static String eTag(long version, MediaType format) {
+		if (MediaType.APPLICATION_JSON.isCompatibleWith(format)) {
+			return "W/\"" + version + "\"";
+		}
+		String subtype = format.getSubtype();
+		return "W/\"" + version + "-" + subtype.substring(subtype.lastIndexOf('-') + 1) + "\"";
+	}
+
+	private List<MediaType> producibleTypes(Class<?> bodyType) {
+		List<MediaType> producible = new ArrayList<>();
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter.canWrite(bodyType, null)) {
+				producible.addAll(converter.getSupportedMediaTypes(bodyType));
+			}
+		}
+		return producible;
+	}
+}
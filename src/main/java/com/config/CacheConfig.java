@@ -0,0 +1,31 @@
+package com.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables Spring's cache abstraction for the application.
+ * <p>
+ * The caches themselves are Caffeine caches created by Spring Boot from the
+ * {@code spring.cache.*} properties, which bound their size and lifetime and
+ * turn on hit, miss and eviction statistics.
+ * </p>
+ * <p>
+ * The caching advice is ordered just outside the transaction advice, so a
+ * cache hit on a {@code @Transactional} method returns without opening a
+ * transaction or borrowing a pooled connection, and evictions happen only
+ * after the transaction has committed.
+ * </p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+	/** Cache of {@link com.dto.BlogDTO} keyed by blog ID. */
+	public static final String BLOGS = "blogs";
+
+	/** Cache of {@link com.dto.BlogWithCommentDTO} keyed by blog ID. */
+	public static final String BLOG_WITH_COMMENTS = "blogWithComments";
+
+}
@@ -0,0 +1,74 @@
+package com.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.entity.BlogEntity;
+import com.entity.CommentEntity;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Aligns the pooled ID sequences with rows created before the sequences existed.
+ * <p>
+ * Blog and comment IDs used to come from MySQL identity columns. On MySQL the
+ * sequences are emulated by the {@code blog_seq} and {@code comment_seq}
+ * tables, which Hibernate creates starting at 1. This moves each sequence past
+ * the highest existing ID plus one allocation block, so no generated ID can
+ * collide with an old row. It runs once at startup, before the web server
+ * accepts requests, and is a no-op once the sequences are ahead. Databases
+ * with native sequences have no sequence tables and are skipped. Any other
+ * failure stops the startup: with a sequence left behind, the next insert
+ * would fail on a duplicate key.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "blog.id-sequence.align-on-startup", havingValue = "true", matchIfMissing = true)
+public class IdSequenceInitializer implements InitializingBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean nativeSequences;
+
+	/**
+	 * Constructor-based dependency injection. The entity manager factory also
+	 * ensures that the schema, including the sequence tables, exists first.
+	 *
+	 * @param jdbcTemplate         Template for plain SQL statements.
+	 * @param entityManagerFactory The JPA entity manager factory, whose dialect
+	 *                             tells whether sequences are native.
+	 */
+	public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.nativeSequences = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+				.getDialect().getSequenceSupport().supportsSequences();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (nativeSequences) {
+			LOGGER.debug("Skipped aligning the ID sequences: the database has native sequences");
+			return;
+		}
+		align("blog_seq", "blog", BlogEntity.ID_ALLOCATION_SIZE);
+		align("comment_seq", "comment", CommentEntity.ID_ALLOCATION_SIZE);
+	}
+
+	private void align(String sequenceTable, String table, int allocationSize) {
+		try {
+			int updated = jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = GREATEST(next_val,"
+					+ " (SELECT COALESCE(MAX(id), 0) + " + (allocationSize + 1) + " FROM " + table + "))");
+			LOGGER.debug("Aligned ID sequence table {} with {} ({} row(s))", sequenceTable, table, updated);
+		} catch (DataAccessException e) {
+			throw new IllegalStateException("Could not move ID sequence table " + sequenceTable + " past the IDs in "
+					+ table + "; new " + table + " rows could collide with existing ones", e);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the most SQL statements one request to an endpoint may execute.
+ * <p>
+ * The budget must hold with every cache cold, so it is the statement count of
+ * a cache miss. It binds successful responses only; error paths may spend more.
+ * Endpoints whose statement count grows with the input, such as bulk inserts,
+ * declare none. When {@code blog.query-stats.enabled} is set, requests that go
+ * over it are logged, and the budget is sent in the {@code X-Query-Budget}
+ * response header next to the actual {@code X-Query-Count}, so the load
+ * harness can fail a run on query-count creep. Without the property the
+ * annotation has no effect.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	/**
+	 * @return The maximum number of statements, each JDBC batch counting as one.
+	 */
+	int value();
+}
@@ -0,0 +1,89 @@
+package com.config;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * SQL statements executed and rows fetched on the current thread while a
+ * request is being handled.
+ * <p>
+ * Counting is scoped by {@link #start()} and {@link #stop()}, which the
+ * {@link QueryStatsFilter} calls around each request. Statements run by other
+ * threads, such as the comment ingestion worker or the scheduled jobs, are not
+ * attributed to any request. Each {@code execute} call counts as one
+ * statement, so a JDBC batch is one statement however many rows it writes,
+ * matching the number of round trips to the database.
+ * </p>
+ */
+public class QueryStats {
+
+	private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+	private int statements;
+	private long rows;
+
+	/**
+	 * Starts counting for the current thread.
+	 *
+	 * @return The counters of the current thread.
+	 */
+	static QueryStats start() {
+		QueryStats stats = new QueryStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	/**
+	 * Stops counting for the current thread.
+	 */
+	static void stop() {
+		CURRENT.remove();
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * The datasource-proxy listener feeding the counters of the thread that
+	 * runs the statement or reads the result set.
+	 */
+	static class Listener implements QueryExecutionListener, MethodExecutionListener {
+
+		@Override
+		public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		}
+
+		@Override
+		public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+			QueryStats stats = CURRENT.get();
+			if (stats != null) {
+				stats.statements++;
+			}
+		}
+
+		@Override
+		public void beforeMethod(MethodExecutionContext executionContext) {
+		}
+
+		@Override
+		public void afterMethod(MethodExecutionContext executionContext) {
+			QueryStats stats = CURRENT.get();
+			if (stats != null && executionContext.getTarget() instanceof ResultSet
+					&& "next".equals(executionContext.getMethod().getName())
+					&& Boolean.TRUE.equals(executionContext.getResult())) {
+				stats.rows++;
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Per-request SQL statement and row counting, for development and load tests.
+ * <p>
+ * Enabled with {@code blog.query-stats.enabled=true}, as the {@code dev}
+ * profile does. The datasource is then wrapped in a datasource-proxy that
+ * reports every statement and every fetched row to {@link QueryStats}, and
+ * {@link QueryStatsFilter} turns the counts into response headers. The proxy
+ * sits on every JDBC call, so production leaves it off and keeps the plain
+ * pooled datasource.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.query-stats.enabled", havingValue = "true")
+public class QueryStatsConfig {
+
+	/**
+	 * Wraps the application's datasource in a counting proxy. Declared static so
+	 * the post-processor is registered before the datasource is created.
+	 *
+	 * @return The post-processor.
+	 */
+	@Bean
+	static BeanPostProcessor queryStatsDataSourceWrapper() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+					QueryStats.Listener listener = new QueryStats.Listener();
+					return ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener)
+							.methodListener(listener).proxyResultSet().build();
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * Registers the filter outermost, so the rest of the chain and the servlet
+	 * write through its response wrapper.
+	 *
+	 * @return The filter registration.
+	 */
+	@Bean
+	FilterRegistrationBean<QueryStatsFilter> queryStatsFilter() {
+		FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(new QueryStatsFilter());
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+		return registration;
+	}
+}
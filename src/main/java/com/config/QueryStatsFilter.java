@@ -0,0 +1,140 @@
+package com.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Counts the SQL statements and rows of each request and reports them in the
+ * {@code X-Query-Count} and {@code X-Query-Rows} response headers, together
+ * with the handler's {@link QueryBudget} in {@code X-Query-Budget} on
+ * successful responses.
+ * <p>
+ * Headers can only be added until the response is committed, so they are
+ * written just before the first byte of the body, or at the end of the request
+ * for responses without one. Statements run while the body is streamed, as in
+ * the NDJSON export, are counted for the budget check but cannot be reported.
+ * A request over its budget is logged as a warning.
+ * </p>
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+	static final String QUERY_COUNT_HEADER = "X-Query-Count";
+	static final String QUERY_ROWS_HEADER = "X-Query-Rows";
+	static final String QUERY_BUDGET_HEADER = "X-Query-Budget";
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		QueryStats stats = QueryStats.start();
+		QueryStatsResponse wrappedResponse = new QueryStatsResponse(response, request, stats);
+		try {
+			filterChain.doFilter(request, wrappedResponse);
+		} finally {
+			QueryStats.stop();
+			wrappedResponse.writeHeaders();
+			QueryBudget budget = budgetOf(request);
+			if (budget != null && isSuccess(wrappedResponse) && stats.getStatements() > budget.value()) {
+				LOGGER.warn("{} {} ran {} statement(s), over its budget of {}", request.getMethod(),
+						request.getRequestURI(), stats.getStatements(), budget.value());
+			}
+		}
+	}
+
+	/**
+	 * Budgets only bind successful responses: error paths may spend extra
+	 * statements, e.g. to tell a missing blog from a missing comment.
+	 */
+	private static boolean isSuccess(HttpServletResponse response) {
+		return response.getStatus() < 400;
+	}
+
+	/**
+	 * @return The budget of the handler method the request was mapped to, if any.
+	 */
+	private static QueryBudget budgetOf(HttpServletRequest request) {
+		if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+			return handler.getMethodAnnotation(QueryBudget.class);
+		}
+		return null;
+	}
+
+	/**
+	 * Adds the statistics headers once, before anything commits the response.
+	 */
+	private static class QueryStatsResponse extends HttpServletResponseWrapper {
+
+		private final HttpServletRequest request;
+		private final QueryStats stats;
+		private boolean headersWritten;
+
+		QueryStatsResponse(HttpServletResponse response, HttpServletRequest request, QueryStats stats) {
+			super(response);
+			this.request = request;
+			this.stats = stats;
+		}
+
+		void writeHeaders() {
+			if (headersWritten || isCommitted()) {
+				return;
+			}
+			headersWritten = true;
+			setIntHeader(QUERY_COUNT_HEADER, stats.getStatements());
+			setHeader(QUERY_ROWS_HEADER, Long.toString(stats.getRows()));
+			QueryBudget budget = budgetOf(request);
+			if (budget != null && isSuccess(this)) {
+				setIntHeader(QUERY_BUDGET_HEADER, budget.value());
+			}
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			writeHeaders();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			writeHeaders();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			writeHeaders();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			writeHeaders();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			writeHeaders();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			writeHeaders();
+			super.sendRedirect(location);
+		}
+	}
+}
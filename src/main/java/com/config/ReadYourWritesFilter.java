@@ -0,0 +1,89 @@
+package com.config;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it writes, so
+ * it sees its own changes however far the replicas lag behind.
+ * <p>
+ * Every request with an unsafe method sets the {@code blog-rw-until} cookie to
+ * the end of the window, and requests carrying an unexpired cookie are pinned
+ * to the primary for their whole duration. The cookie holds no session state,
+ * so any instance honours it. Times beyond one window from now are ignored, so
+ * a client cannot pin itself for longer than that.
+ * </p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	static final String COOKIE_NAME = "blog-rw-until";
+
+	private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+	private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+	private final long windowMillis;
+
+	/**
+	 * @param windowMillis How long after a write the client's reads stay on the primary.
+	 */
+	public ReadYourWritesFilter(long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * @return Whether reads of the current thread's request must go to the primary.
+	 */
+	static boolean isPinnedToPrimary() {
+		return PINNED.get() != null;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long now = System.currentTimeMillis();
+		boolean write = !SAFE_METHODS.contains(request.getMethod());
+		if (write) {
+			Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + windowMillis));
+			cookie.setPath("/");
+			cookie.setHttpOnly(true);
+			cookie.setMaxAge((int) Math.ceil(windowMillis / 1000.0));
+			response.addCookie(cookie);
+		}
+
+		if (write || isWithinWindow(request, now)) {
+			PINNED.set(Boolean.TRUE);
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			PINNED.remove();
+		}
+	}
+
+	private boolean isWithinWindow(HttpServletRequest request, long now) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies == null) {
+			return false;
+		}
+		for (Cookie cookie : cookies) {
+			if (COOKIE_NAME.equals(cookie.getName())) {
+				try {
+					long until = Long.parseLong(cookie.getValue());
+					return until > now && until <= now + windowMillis;
+				} catch (NumberFormatException e) {
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,137 @@
+package com.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions to read replicas and everything else to the
+ * primary.
+ * <p>
+ * Enabled with {@code blog.replica.enabled=true}. The application's datasource
+ * becomes a {@link LazyConnectionDataSourceProxy} over a primary pool built
+ * from {@code spring.datasource.*}; it only borrows a physical connection at
+ * the first statement, once the transaction has declared itself read-only, and
+ * then takes it from the {@link ReplicaRoutingDataSource} instead of the
+ * primary. The replica pools come from {@code blog.replica.urls}, with the
+ * primary's credentials unless {@code blog.replica.username} and
+ * {@code blog.replica.password} are set, and are all sized by
+ * {@code spring.datasource.hikari.*}. They are read-only pools, so a write
+ * that reaches a replica by mistake fails instead of diverging.
+ * </p>
+ * <p>
+ * Replica lag is visible to reads: the {@link ReadYourWritesFilter} hides it
+ * from the client that wrote, but a blog read from a lagging replica right
+ * after an update can be cached and served to others until the cache entry
+ * expires, so replicas are expected to lag far less than
+ * {@code spring.cache.caffeine.spec}'s expiry.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig implements DisposableBean {
+
+	private final List<HikariDataSource> pools = new ArrayList<>();
+
+	/**
+	 * Builds the primary and replica pools and the routing between them.
+	 *
+	 * @param properties          The {@code spring.datasource.*} settings of the primary.
+	 * @param environment         The environment the pool settings are bound from.
+	 * @param taskScheduler       Scheduler of the replica health checks.
+	 * @param meterRegistry       Registry of the pool and routing meters, if metrics are enabled.
+	 * @param replicaUrls         The JDBC URLs of the replicas.
+	 * @param replicaUsername     The user of the replica connections.
+	 * @param replicaPassword     The password of the replica connections.
+	 * @param healthCheckInterval Milliseconds between replica health checks.
+	 * @return The application's datasource.
+	 */
+	@Bean
+	DataSource dataSource(DataSourceProperties properties, Environment environment, TaskScheduler taskScheduler,
+			ObjectProvider<MeterRegistry> meterRegistry, @Value("${blog.replica.urls}") String[] replicaUrls,
+			@Value("${blog.replica.username:${spring.datasource.username:}}") String replicaUsername,
+			@Value("${blog.replica.password:${spring.datasource.password:}}") String replicaPassword,
+			@Value("${blog.replica.health-check-interval-millis:5000}") long healthCheckInterval) {
+		Binder binder = Binder.get(environment);
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+
+		HikariDataSource primary = pool(properties.initializeDataSourceBuilder().type(HikariDataSource.class).build(),
+				"primary", binder, registry);
+		List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+		for (int i = 0; i < replicaUrls.length; i++) {
+			String name = "replica-" + (i + 1);
+			HikariDataSource replica = pool(properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+					.url(replicaUrls[i].trim()).username(replicaUsername).password(replicaPassword).build(),
+					name, binder, registry);
+			replica.setReadOnly(true);
+			replicas.add(new ReplicaRoutingDataSource.Replica(name, replica));
+		}
+
+		ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, replicas);
+		if (registry != null) {
+			readOnly.bindTo(registry);
+		}
+		taskScheduler.scheduleWithFixedDelay(readOnly::checkReplicas, Duration.ofMillis(healthCheckInterval));
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(readOnly);
+		return dataSource;
+	}
+
+	/**
+	 * Applies {@code spring.datasource.hikari.*} to a pool and names it after
+	 * its role, which also tags its {@code hikaricp.connections.*} meters.
+	 */
+	private HikariDataSource pool(HikariDataSource pool, String name, Binder binder, MeterRegistry registry) {
+		binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+		pool.setPoolName(name);
+		if (registry != null) {
+			pool.setMetricRegistry(registry);
+		}
+		pools.add(pool);
+		return pool;
+	}
+
+	/**
+	 * Registers the read-your-writes filter ahead of the handlers, unless
+	 * {@code blog.replica.read-your-writes-millis} is 0.
+	 *
+	 * @param windowMillis How long after a write a client's reads stay on the primary.
+	 * @return The filter registration.
+	 */
+	@Bean
+	FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+			@Value("${blog.replica.read-your-writes-millis:2000}") long windowMillis) {
+		FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+				new ReadYourWritesFilter(windowMillis));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+		registration.setEnabled(windowMillis > 0);
+		return registration;
+	}
+
+	@Override
+	public void destroy() {
+		pools.forEach(HikariDataSource::close);
+	}
+}
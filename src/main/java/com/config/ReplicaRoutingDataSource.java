@@ -0,0 +1,166 @@
+package com.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The datasource of read-only transactions: hands out connections of the
+ * replicas in turn, and of the primary when no replica can serve the read.
+ * <p>
+ * A replica is skipped while it is marked down, which happens when one of its
+ * connections cannot be obtained or when {@link #checkReplicas()} finds it
+ * unreachable; the next successful check brings it back. Reads of a client
+ * that has just written stay on the primary, see {@link ReadYourWritesFilter}.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	/** Seconds a health check waits for a replica to answer. */
+	private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final AtomicInteger next = new AtomicInteger();
+
+	private final LongAdder replicaReads = new LongAdder();
+	private final LongAdder pinnedReads = new LongAdder();
+	private final LongAdder fallbackReads = new LongAdder();
+
+	/**
+	 * @param primary  The primary, used when no replica can serve the read.
+	 * @param replicas The replica pools by name.
+	 */
+	public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas) {
+		this.primary = primary;
+		this.replicas = replicas;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return route(DataSource::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return route(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	/**
+	 * Opens the connection on the primary when the request is pinned to it, else
+	 * on the next replica that is up and can open one, else on the primary.
+	 */
+	private Connection route(ConnectionOpener opener) throws SQLException {
+		if (ReadYourWritesFilter.isPinnedToPrimary()) {
+			pinnedReads.increment();
+			return opener.open(primary);
+		}
+		for (int attempt = 0; attempt < replicas.size(); attempt++) {
+			Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+			if (!replica.up) {
+				continue;
+			}
+			try {
+				Connection connection = opener.open(replica.dataSource);
+				replicaReads.increment();
+				return connection;
+			} catch (SQLException e) {
+				markDown(replica, e.getMessage());
+			}
+		}
+		fallbackReads.increment();
+		return opener.open(primary);
+	}
+
+	/**
+	 * Validates one connection of every replica and marks each up or down
+	 * accordingly. Scheduled every {@code blog.replica.health-check-interval-millis}.
+	 */
+	public void checkReplicas() {
+		for (Replica replica : replicas) {
+			try (Connection connection = replica.dataSource.getConnection()) {
+				if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+					markUp(replica);
+				} else {
+					markDown(replica, "connection validation failed");
+				}
+			} catch (SQLException e) {
+				markDown(replica, e.getMessage());
+			}
+		}
+	}
+
+	private static void markDown(Replica replica, String reason) {
+		if (replica.up) {
+			replica.up = false;
+			LOGGER.warn("Replica {} is unavailable, reading from the primary instead: {}", replica.name, reason);
+		}
+	}
+
+	private static void markUp(Replica replica) {
+		if (!replica.up) {
+			replica.up = true;
+			LOGGER.info("Replica {} is available again", replica.name);
+		}
+	}
+
+	/**
+	 * Registers read-only connection counters by target, {@code replica},
+	 * {@code primary} with reason {@code pinned} for read-your-writes and
+	 * {@code unavailable} for fallbacks, and a gauge of each replica's state.
+	 *
+	 * @param registry The registry to bind the meters to.
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("blog.datasource.reads", replicaReads, LongAdder::sum).tag("target", "replica")
+				.tag("reason", "routed").description("Read-only connections by target").register(registry);
+		FunctionCounter.builder("blog.datasource.reads", pinnedReads, LongAdder::sum).tag("target", "primary")
+				.tag("reason", "pinned").description("Read-only connections by target").register(registry);
+		FunctionCounter.builder("blog.datasource.reads", fallbackReads, LongAdder::sum).tag("target", "primary")
+				.tag("reason", "unavailable").description("Read-only connections by target").register(registry);
+		for (Replica replica : replicas) {
+			Gauge.builder("blog.datasource.replica.up", replica, r -> r.up ? 1 : 0).tag("replica", replica.name)
+					.description("Whether the replica receives reads").register(registry);
+		}
+	}
+
+	/**
+	 * Opens a connection of a datasource, with or without explicit credentials.
+	 */
+	@FunctionalInterface
+	private interface ConnectionOpener {
+
+		Connection open(DataSource dataSource) throws SQLException;
+	}
+
+	/**
+	 * A replica pool and whether it currently receives reads.
+	 */
+	public static class Replica {
+
+		private final String name;
+		private final DataSource dataSource;
+		private volatile boolean up = true;
+
+		public Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+}
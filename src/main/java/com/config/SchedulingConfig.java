@@ -0,0 +1,13 @@
+package com.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task execution for the application's background jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -1,24 +1,41 @@
 package com.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.config.BinaryFormatConfig;
+import com.config.BodyFormatNegotiator;
+import com.config.QueryBudget;
 import com.dto.BlogDTO;
 import com.dto.BlogWithCommentDTO;
+import com.dto.BulkResultDTO;
 import com.dto.CommentDTO;
+import com.dto.CommentReceiptDTO;
+import com.dto.PageDTO;
+import com.service.BlogSearchService;
 import com.service.BlogService;
+import com.service.CommentIngestionService;
 import com.service.CommentService;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 /**
  * Controller for managing blog-related operations.
@@ -26,6 +43,19 @@ import jakarta.validation.constraints.Positive;
  * Provides End-points for creating, retrieving, updating, and deleting blogs,
  * as well as handling comments on blogs.
  * </p>
+ * <p>
+ * Single-blog reads carry an ETag derived from the blog's version and
+ * answer a matching {@code If-None-Match} with 304, after only a version lookup.
+ * </p>
+ * <p>
+ * Bodies are JSON, or Smile or CBOR for clients that ask for them in the
+ * {@code Accept} header (see {@link BinaryFormatConfig}). The ETag names the
+ * format too, since each is a different representation; the format is
+ * negotiated up front by the {@link BodyFormatNegotiator} and the body is
+ * written in exactly that format. ETags are weak, so
+ * the server may still gzip responses above {@code server.compression.min-response-size}:
+ * Tomcat never compresses a response with a strong ETag.
+ * </p>
  */
 @RestController
 @RequestMapping("/api")
@@ -34,33 +64,86 @@ public class BlogController {
 
 	private BlogService blogService;
 	private CommentService commentService;
+	private CommentIngestionService ingestionService;
+	private BlogSearchService searchService;
+	private BodyFormatNegotiator formatNegotiator;
 
 	/**
-	 * Constructor-based dependency injection for BlogService and CommentService.
+	 * Constructor-based dependency injection for BlogService, CommentService,
+	 * CommentIngestionService, BlogSearchService and BodyFormatNegotiator.
 	 *
-	 * @param blogService    Service for blog operations.
-	 * @param commentService Service for comment operations.
+	 * @param blogService      Service for blog operations.
+	 * @param commentService   Service for comment operations.
+	 * @param ingestionService Service for asynchronous comment ingestion.
+	 * @param searchService    Service for full-text blog search.
+	 * @param formatNegotiator Negotiator of the body format ETags are built for.
 	 */
-	public BlogController(BlogService blogService, CommentService commentService) {
+	public BlogController(BlogService blogService, CommentService commentService,
+			CommentIngestionService ingestionService, BlogSearchService searchService,
+			BodyFormatNegotiator formatNegotiator) {
 
 		this.blogService = blogService;
 		this.commentService = commentService;
+		this.ingestionService = ingestionService;
+		this.searchService = searchService;
+		this.formatNegotiator = formatNegotiator;
 	}
 
 	/**
-	 * Retrieves a list of all blogs.
+	 * Retrieves one page of blogs, newest first, optionally filtered by author
+	 * and publishing time. The same filters must be sent with every page.
 	 *
-	 * @return ResponseEntity containing a list of {@link BlogDTO}.
+	 * @param author The exact author name; omit it for any author.
+	 * @param from   The earliest publishing time, inclusive (ISO date-time).
+	 * @param to     The latest publishing time, exclusive (ISO date-time).
+	 * @param cursor The cursor returned with the previous page; omit it for the
+	 *               first page.
+	 * @param size   The maximum number of blogs to return.
+	 * @return ResponseEntity containing a {@link PageDTO} of {@link BlogDTO}.
 	 */
 	@GetMapping("/blogs")
+	@QueryBudget(1)
 	@Tag(name = "Fetch all blogs ")
-	public ResponseEntity<List<BlogDTO>> getAllBlogs() {
+	public ResponseEntity<PageDTO<BlogDTO>> getAllBlogs(@RequestParam(required = false) String author,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20")
+			@Min(value = 1, message = "Page size should be between 1 and 100")
+			@Max(value = 100, message = "Page size should be between 1 and 100") int size) {
+
+		PageDTO<BlogDTO> blogPage = blogService.getAllBlogs(author, from, to, cursor, size);
+		if (blogPage.getItems().isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NO_CONTENT).body(blogPage);
+		}
+		return ResponseEntity.status(HttpStatus.OK).body(blogPage);
+	}
+
+	/**
+	 * Searches blog titles, contents and authors, best match first.
+	 *
+	 * @param q      The search text.
+	 * @param cursor The cursor returned with the previous page; omit it for the
+	 *               first page.
+	 * @param size   The maximum number of blogs to return.
+	 * @return ResponseEntity containing a {@link PageDTO} of matching {@link BlogDTO}.
+	 */
+	@GetMapping("/blogs/search")
+	@QueryBudget(1)
+	@Tag(name = "Search blogs by title, content and author ")
+	public ResponseEntity<PageDTO<BlogDTO>> searchBlogs(
+			@RequestParam @NotBlank(message = "Search text should not be blank")
+			@Size(max = 200, message = "Search text should be at most 200 characters") String q,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20")
+			@Min(value = 1, message = "Page size should be between 1 and 100")
+			@Max(value = 100, message = "Page size should be between 1 and 100") int size) {
 
-		List<BlogDTO> blogList = blogService.getAllBlogs();
-		if (blogList.isEmpty()) {
-			return ResponseEntity.status(HttpStatus.NO_CONTENT).body(blogList);
+		PageDTO<BlogDTO> blogPage = searchService.searchBlogs(q, cursor, size);
+		if (blogPage.getItems().isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NO_CONTENT).body(blogPage);
 		}
-		return ResponseEntity.status(HttpStatus.OK).body(blogList);
+		return ResponseEntity.status(HttpStatus.OK).body(blogPage);
 	}
 
 	/**
@@ -70,6 +153,7 @@ public class BlogController {
 	 * @return ResponseEntity containing the created {@link BlogDTO}.
 	 */
 	@PostMapping("/blogs")
+	@QueryBudget(2)
 	@Tag(name = "Create a new Blog ")
 	public ResponseEntity<BlogDTO> addBlog(@Valid @RequestBody BlogDTO blogDto) {
 
@@ -77,19 +161,54 @@ public class BlogController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(blog);
 	}
 
+	/**
+	 * Creates many blogs in one request, inserted in JDBC batches.
+	 *
+	 * @param blogDtos The blogs to create.
+	 * @return ResponseEntity containing a {@link BulkResultDTO} with the created
+	 *         blogs and the rejected items; 400 if every item was rejected.
+	 */
+	@PostMapping("/blogs/bulk")
+	@Tag(name = "Create many blogs at once ")
+	public ResponseEntity<BulkResultDTO<BlogDTO>> addBlogs(
+			@RequestBody
+			@Size(min = 1, max = 10000, message = "Bulk requests must contain 1 to 10000 blogs") List<BlogDTO> blogDtos) {
+
+		BulkResultDTO<BlogDTO> result = blogService.createBlogs(blogDtos);
+		if (result.getCreated().isEmpty()) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+		}
+		return ResponseEntity.status(HttpStatus.CREATED).body(result);
+	}
+
 	/**
 	 * Retrieves a blog by its ID.
 	 *
-	 * @param id The ID of the blog.
-	 * @return ResponseEntity containing the requested {@link BlogDTO}.
+	 * @param id          The ID of the blog.
+	 * @param ifNoneMatch The ETags the client already holds, if any.
+	 * @param request     The request, whose {@code Accept} header selects the body format.
+	 * @return ResponseEntity containing the requested {@link BlogDTO}, or 304 if
+	 *         the client's copy is current.
 	 */
 	@GetMapping("/blogs/{id}")
+	@QueryBudget(2)
 	@Tag(name = "Fetch a blog by it's ID ")
 	public ResponseEntity<BlogDTO> getBlogById(
-			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id) {
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			HttpServletRequest request) {
+
+		MediaType format = formatNegotiator.negotiate(request, BlogDTO.class);
+		if (format != null && ifNoneMatch != null) {
+			String currentETag = BodyFormatNegotiator.eTag(blogService.getBlogVersion(id), format);
+			if (isETagMatched(ifNoneMatch, currentETag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag)
+						.varyBy(HttpHeaders.ACCEPT).build();
+			}
+		}
 
 		BlogDTO blog = blogService.getBlogById(id);
-		return ResponseEntity.status(HttpStatus.OK).body(blog);
+		return withETag(blog, blog.getVersion(), format);
 	}
 
 	/**
@@ -100,6 +219,7 @@ public class BlogController {
 	 * @return ResponseEntity containing the updated {@link BlogDTO}.
 	 */
 	@PutMapping("/blogs/{id}")
+	@QueryBudget(2)
 	@Tag(name = "Update an existing blog ")
 	public ResponseEntity<BlogDTO> updateBlog(@Valid @RequestBody BlogDTO blogDto,
 			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id) {
@@ -126,29 +246,78 @@ public class BlogController {
 	/**
 	 * Retrieves a blog along with its comments.
 	 *
-	 * @param id The ID of the blog.
-	 * @return ResponseEntity containing the {@link BlogWithCommentDTO}.
+	 * @param id          The ID of the blog.
+	 * @param ifNoneMatch The ETags the client already holds, if any.
+	 * @param request     The request, whose {@code Accept} header selects the body format.
+	 * @return ResponseEntity containing the {@link BlogWithCommentDTO}, or 304 if
+	 *         the client's copy is current.
 	 */
 	@GetMapping("/blogs/{id}/comment")
+	@QueryBudget(3)
 	@Tag(name = "Fetch blog with comment using the blog id")
 	public ResponseEntity<BlogWithCommentDTO> fetchBlogWithComment(
-			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id) {
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			HttpServletRequest request) {
+
+		MediaType format = formatNegotiator.negotiate(request, BlogWithCommentDTO.class);
+		if (format != null && ifNoneMatch != null) {
+			String currentETag = BodyFormatNegotiator.eTag(blogService.getBlogVersion(id), format);
+			if (isETagMatched(ifNoneMatch, currentETag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag)
+						.varyBy(HttpHeaders.ACCEPT).build();
+			}
+		}
 
 		BlogWithCommentDTO blog = blogService.fetchBlogWithComment(id);
-		return ResponseEntity.status(HttpStatus.OK).body(blog);
+		return withETag(blog, blog.getVersion(), format);
+	}
+
+	/**
+	 * Retrieves one page of a blog's comments, oldest first.
+	 *
+	 * @param id     The ID of the blog.
+	 * @param cursor The cursor returned with the previous page; omit it for the
+	 *               first page.
+	 * @param size   The maximum number of comments to return.
+	 * @return ResponseEntity containing a {@link PageDTO} of {@link CommentDTO}.
+	 */
+	@GetMapping("/blogs/{id}/comments")
+	@QueryBudget(2)
+	@Tag(name = "Fetch a page of comments of a blog")
+	public ResponseEntity<PageDTO<CommentDTO>> getComments(
+			@PathVariable @NotNull @Positive(message = "Blogs Id should be Positive Integer") Long id,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20")
+			@Min(value = 1, message = "Page size should be between 1 and 100")
+			@Max(value = 100, message = "Page size should be between 1 and 100") int size) {
+
+		PageDTO<CommentDTO> commentPage = commentService.getComments(id, cursor, size);
+		return ResponseEntity.status(HttpStatus.OK).body(commentPage);
 	}
 
 	/**
 	 * Adds a comment to a blog.
+	 * <p>
+	 * When asynchronous ingestion is enabled the comment is only queued, and the
+	 * response is 202 with a {@link CommentReceiptDTO}; otherwise it is persisted
+	 * immediately and returned with 201.
+	 * </p>
 	 *
 	 * @param commentDto The comment data.
 	 * @param id         The ID of the blog.
-	 * @return ResponseEntity containing the created {@link CommentDTO}.
+	 * @return ResponseEntity containing the created {@link CommentDTO} or the
+	 *         {@link CommentReceiptDTO} of the queued comment.
 	 */
 	@PostMapping("/blogs/{id}/comment")
+	@QueryBudget(3)
 	@Tag(name = "Add a comment to exisiting blog ")
-	public ResponseEntity<CommentDTO> addComment(@Valid @RequestBody CommentDTO commentDto,
+	public ResponseEntity<?> addComment(@Valid @RequestBody CommentDTO commentDto,
 			@PathVariable @Positive(message = "Blogs Id should be Positive Integer") Long id) {
+		if (ingestionService.isEnabled()) {
+			CommentReceiptDTO receipt = ingestionService.submitComment(id, commentDto);
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body(receipt);
+		}
 		CommentDTO comment = commentService.createComment(id, commentDto);
 		return ResponseEntity.status(HttpStatus.CREATED).body(comment);
 	}
@@ -161,6 +330,7 @@ public class BlogController {
 	 * @return ResponseEntity containing the requested {@link CommentDTO}.
 	 */
 	@GetMapping("/blogs/{blogId}/comment/{commentId}")
+	@QueryBudget(1)
 	@Tag(name = "Fetch a specific comment using Id ")
 	public ResponseEntity<CommentDTO> getComment(@PathVariable Long blogId,
 			@PathVariable @Positive(message = "Blogs Id should be Positive Integer") Long commentId) {
@@ -175,6 +345,7 @@ public class BlogController {
 	 * @return ResponseEntity containing the requested {@link CommentDTO}.
 	 */
 	@DeleteMapping("/blogs/{blogId}/comment/{commentId}")
+	@QueryBudget(2)
 	@Tag(name = "Delete a comment from blog using Id")
 	public ResponseEntity<String> deleteComment(
 			@PathVariable @Positive(message = "Comment Id should be Positive Integer") Long commentId, @PathVariable Long blogId) {
@@ -187,4 +358,45 @@ public class BlogController {
 		return ResponseEntity.status(HttpStatus.OK).body("Failed to Deleted !!! ");
 
 	}
+
+	/**
+	 * Answers with a blog representation in the negotiated format, tagged with
+	 * the ETag of that format. The ETag is taken from the returned body, so a
+	 * body served from a stale cache entry never carries a newer ETag than its
+	 * content. Without a format the client accepts, Spring MVC answers 406.
+	 *
+	 * @param body    The blog representation.
+	 * @param version The version of the blog.
+	 * @param format  The negotiated body format, or {@code null} if there is none.
+	 * @return ResponseEntity containing the body.
+	 */
+	private static <T> ResponseEntity<T> withETag(T body, long version, MediaType format) {
+		if (format == null) {
+			return ResponseEntity.status(HttpStatus.OK).varyBy(HttpHeaders.ACCEPT).body(body);
+		}
+		return ResponseEntity.status(HttpStatus.OK).contentType(format)
+				.eTag(BodyFormatNegotiator.eTag(version, format)).varyBy(HttpHeaders.ACCEPT).body(body);
+	}
+
+	/**
+	 * Checks an {@code If-None-Match} header against the current ETag, using the
+	 * weak comparison that RFC 9110 prescribes for this header.
+	 *
+	 * @param ifNoneMatch The raw header value, possibly a comma-separated list.
+	 * @param currentETag The current ETag.
+	 * @return {@code true} if the client's copy is current.
+	 */
+	private static boolean isETagMatched(String ifNoneMatch, String currentETag) {
+		String current = currentETag.startsWith("W/") ? currentETag.substring(2) : currentETag;
+		for (String candidate : ifNoneMatch.split(",")) {
+			String etag = candidate.trim();
+			if (etag.startsWith("W/")) {
+				etag = etag.substring(2);
+			}
+			if (etag.equals("*") || etag.equals(current)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -0,0 +1,58 @@
+package com.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.service.BlogExportService;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Controller for bulk export of blogs.
+ * <p>
+ * Provides an End-point that streams every blog with its comments as
+ * newline-delimited JSON, replacing one listing call plus one request per blog.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class BlogExportController {
+
+	/** Media type of newline-delimited JSON. */
+	public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+	private BlogExportService exportService;
+
+	/**
+	 * Constructor-based dependency injection for BlogExportService.
+	 *
+	 * @param exportService Service for exporting blogs.
+	 */
+	public BlogExportController(BlogExportService exportService) {
+
+		this.exportService = exportService;
+	}
+
+	/**
+	 * Streams every blog with all of its comments, one JSON object per line.
+	 * The body is written directly to the response as it is read from the
+	 * database.
+	 *
+	 * @param response The HTTP response the export is written to.
+	 * @throws IOException If writing the response fails.
+	 */
+	@GetMapping(value = "/blogs/export", produces = APPLICATION_NDJSON_VALUE)
+	@Tag(name = "Export all blogs with their comments as NDJSON")
+	public void exportBlogs(HttpServletResponse response) throws IOException {
+
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		exportService.exportBlogs(response.getOutputStream());
+	}
+}
@@ -0,0 +1,72 @@
+package com.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller exposing statistics of the application caches.
+ * <p>
+ * Reports hit, miss and eviction counters per cache so the cache bounds can be
+ * sized from real traffic.
+ * </p>
+ * <p>
+ * The same counters are exported as {@code cache.gets}, {@code cache.evictions}
+ * and {@code cache.size} meters, tagged by cache name, at
+ * {@code /actuator/prometheus}; dashboards should use those.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class CacheStatsController {
+
+	private CacheManager cacheManager;
+
+	/**
+	 * Constructor-based dependency injection for CacheManager.
+	 *
+	 * @param cacheManager The application's cache manager.
+	 */
+	public CacheStatsController(CacheManager cacheManager) {
+
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * Retrieves the statistics of every cache.
+	 *
+	 * @return ResponseEntity containing the statistics keyed by cache name.
+	 */
+	@GetMapping("/cache/stats")
+	@Tag(name = "Fetch cache statistics")
+	public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+
+		Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+		for (String name : cacheManager.getCacheNames()) {
+			Cache cache = cacheManager.getCache(name);
+			if (cache instanceof CaffeineCache caffeineCache) {
+				CacheStats cacheStats = caffeineCache.getNativeCache().stats();
+				Map<String, Object> entry = new LinkedHashMap<>();
+				entry.put("size", caffeineCache.getNativeCache().estimatedSize());
+				entry.put("hitCount", cacheStats.hitCount());
+				entry.put("missCount", cacheStats.missCount());
+				entry.put("hitRate", cacheStats.hitRate());
+				entry.put("evictionCount", cacheStats.evictionCount());
+				stats.put(name, entry);
+			}
+		}
+		return ResponseEntity.status(HttpStatus.OK).body(stats);
+	}
+}
@@ -0,0 +1,52 @@
+package com.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dto.IngestionStatsDTO;
+import com.service.CommentIngestionService;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller exposing the state of the asynchronous comment ingestion queue.
+ * <p>
+ * Reports queue depth, throughput counters and flush latency of the background
+ * worker.
+ * </p>
+ * <p>
+ * The same figures are exported as {@code blog.comments.ingestion.*} meters at
+ * {@code /actuator/prometheus}; dashboards should use those.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class CommentIngestionController {
+
+	private CommentIngestionService ingestionService;
+
+	/**
+	 * Constructor-based dependency injection for CommentIngestionService.
+	 *
+	 * @param ingestionService Service for asynchronous comment ingestion.
+	 */
+	public CommentIngestionController(CommentIngestionService ingestionService) {
+
+		this.ingestionService = ingestionService;
+	}
+
+	/**
+	 * Retrieves the statistics of the comment ingestion queue.
+	 *
+	 * @return ResponseEntity containing the {@link IngestionStatsDTO}.
+	 */
+	@GetMapping("/comments/ingestion/stats")
+	@Tag(name = "Fetch comment ingestion statistics")
+	public ResponseEntity<IngestionStatsDTO> getIngestionStats() {
+
+		return ResponseEntity.status(HttpStatus.OK).body(ingestionService.getStats());
+	}
+}
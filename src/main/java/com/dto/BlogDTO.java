@@ -56,7 +56,45 @@ public class BlogDTO {
      */
     private LocalDateTime publishedAt;
 
-    
+    /**
+     *  Version of the Blog; changes on every edit and on every comment added or removed.
+     *  Ignored when sent by clients.
+     */
+    private Long version;
+
+    /**
+     *  Number of comments on the Blog. Ignored when sent by clients.
+     */
+    private Long commentCount;
+
+    /**
+     *  Creation Date & Time of the latest comment, if any. Ignored when sent by clients.
+     */
+    private LocalDateTime lastCommentAt;
+
+
+    /**
+     * Default constructor, used when a blog is deserialized from a request.
+     */
+    public BlogDTO() {
+    }
+
+    /**
+     * Constructs a fully populated BlogDTO.
+     * Used by JPQL constructor expressions to read blogs without loading entities.
+     */
+    public BlogDTO(Long id, String title, String content, String author, LocalDateTime publishedAt,
+            Long version, Long commentCount, LocalDateTime lastCommentAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.publishedAt = publishedAt;
+        this.version = version;
+        this.commentCount = commentCount;
+        this.lastCommentAt = lastCommentAt;
+    }
+
     /**
      * Getter and Setter methods for BlogDTO properties.
      */
@@ -99,6 +137,29 @@ public class BlogDTO {
 	public void setAuthor(String author) {
 		this.author = author;
 	}
-    
-	
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public Long getCommentCount() {
+		return commentCount;
+	}
+
+	public void setCommentCount(Long commentCount) {
+		this.commentCount = commentCount;
+	}
+
+	public LocalDateTime getLastCommentAt() {
+		return lastCommentAt;
+	}
+
+	public void setLastCommentAt(LocalDateTime lastCommentAt) {
+		this.lastCommentAt = lastCommentAt;
+	}
+
 }
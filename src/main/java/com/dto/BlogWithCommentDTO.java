@@ -6,7 +6,7 @@ import java.util.List;
 /**
  * Data Transfer Object (DTO) for representing a blog post along with its
  * associated comments. This class is used to return a blog post's details along
- * with a list of comments.
+ * with the first page of its comments.
  */
 public class BlogWithCommentDTO {
 
@@ -26,11 +26,16 @@ public class BlogWithCommentDTO {
 	private String content;
 
 	/**
-	 * A list of comments associated with this blog post. This helps retrieve all
-	 * comments linked to a specific blog.
+	 * The first page of comments associated with this blog post, oldest first.
 	 */
 	private List<CommentDTO> comments;
 
+	/**
+	 * Cursor for fetching the next page of comments, or {@code null} when all
+	 * comments are already included.
+	 */
+	private String nextCommentCursor;
+
 	/**
 	 * Name of Author of the Blog
 	 */
@@ -41,6 +46,22 @@ public class BlogWithCommentDTO {
 	 */
 	private LocalDateTime publishedAt;
 
+	/**
+	 * Version of the Blog; changes on every edit and on every comment added or
+	 * removed.
+	 */
+	private Long version;
+
+	/**
+	 * Total number of comments on the Blog, across all pages.
+	 */
+	private Long commentCount;
+
+	/**
+	 * Creation Date & Time of the latest comment, if any.
+	 */
+	private LocalDateTime lastCommentAt;
+
 	public Long getId() {
 		return id;
 	}
@@ -73,6 +94,14 @@ public class BlogWithCommentDTO {
 		this.comments = comments;
 	}
 
+	public String getNextCommentCursor() {
+		return nextCommentCursor;
+	}
+
+	public void setNextCommentCursor(String nextCommentCursor) {
+		this.nextCommentCursor = nextCommentCursor;
+	}
+
 	public LocalDateTime getPublishedAt() {
 		return publishedAt;
 	}
@@ -89,4 +118,28 @@ public class BlogWithCommentDTO {
 		this.author = author;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public Long getCommentCount() {
+		return commentCount;
+	}
+
+	public void setCommentCount(Long commentCount) {
+		this.commentCount = commentCount;
+	}
+
+	public LocalDateTime getLastCommentAt() {
+		return lastCommentAt;
+	}
+
+	public void setLastCommentAt(LocalDateTime lastCommentAt) {
+		this.lastCommentAt = lastCommentAt;
+	}
+
 }
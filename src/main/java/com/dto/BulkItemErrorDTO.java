@@ -0,0 +1,44 @@
+package com.dto;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) describing why one item of a bulk request was rejected.
+ */
+public class BulkItemErrorDTO {
+
+	/**
+	 * Zero-based position of the rejected item in the request array.
+	 */
+	private int index;
+
+	/**
+	 * Validation messages keyed by field name.
+	 */
+	private Map<String, String> errors;
+
+	public BulkItemErrorDTO() {
+	}
+
+	public BulkItemErrorDTO(int index, Map<String, String> errors) {
+		this.index = index;
+		this.errors = errors;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
+	public Map<String, String> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(Map<String, String> errors) {
+		this.errors = errors;
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a bulk creation request.
+ * Valid items are created even when other items of the same request are rejected.
+ *
+ * @param <T> The type of the created items.
+ */
+public class BulkResultDTO<T> {
+
+	/**
+	 * The items that were created, in request order.
+	 */
+	private List<T> created;
+
+	/**
+	 * The items that were rejected, with the reasons.
+	 */
+	private List<BulkItemErrorDTO> failures;
+
+	public BulkResultDTO() {
+	}
+
+	public BulkResultDTO(List<T> created, List<BulkItemErrorDTO> failures) {
+		this.created = created;
+		this.failures = failures;
+	}
+
+	public List<T> getCreated() {
+		return created;
+	}
+
+	public void setCreated(List<T> created) {
+		this.created = created;
+	}
+
+	public List<BulkItemErrorDTO> getFailures() {
+		return failures;
+	}
+
+	public void setFailures(List<BulkItemErrorDTO> failures) {
+		this.failures = failures;
+	}
+
+}
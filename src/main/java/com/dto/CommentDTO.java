@@ -37,6 +37,20 @@ public class CommentDTO {
      */
     private LocalDateTime createdAt;
 
+    public CommentDTO() {
+    }
+
+    /**
+     * Constructs a fully populated CommentDTO.
+     * Used by JPQL constructor expressions to read comments without loading entities.
+     */
+    public CommentDTO(Long id, String comment, Long blogId, LocalDateTime createdAt) {
+        this.id = id;
+        this.comment = comment;
+        this.blogId = blogId;
+        this.createdAt = createdAt;
+    }
+
     /**
      * Getter and Setter methods for CommentDTO properties.
      */
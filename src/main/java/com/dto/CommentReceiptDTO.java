@@ -0,0 +1,44 @@
+package com.dto;
+
+/**
+ * Data Transfer Object (DTO) acknowledging a comment accepted for asynchronous ingestion.
+ * The comment is persisted later by a background worker.
+ */
+public class CommentReceiptDTO {
+
+	/**
+	 * Identifier of the accepted comment submission, also used in the
+	 * ingestion logs.
+	 */
+	private String trackingId;
+
+	/**
+	 * The ID of the blog the comment was submitted to.
+	 */
+	private Long blogId;
+
+	public CommentReceiptDTO() {
+	}
+
+	public CommentReceiptDTO(String trackingId, Long blogId) {
+		this.trackingId = trackingId;
+		this.blogId = blogId;
+	}
+
+	public String getTrackingId() {
+		return trackingId;
+	}
+
+	public void setTrackingId(String trackingId) {
+		this.trackingId = trackingId;
+	}
+
+	public Long getBlogId() {
+		return blogId;
+	}
+
+	public void setBlogId(Long blogId) {
+		this.blogId = blogId;
+	}
+
+}
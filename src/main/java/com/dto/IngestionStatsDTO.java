@@ -0,0 +1,119 @@
+package com.dto;
+
+/**
+ * Data Transfer Object (DTO) reporting the state of the asynchronous comment
+ * ingestion queue.
+ */
+public class IngestionStatsDTO {
+
+	/** Whether asynchronous ingestion is enabled. */
+	private boolean enabled;
+
+	/** Number of comments currently waiting in the queue. */
+	private int queueDepth;
+
+	/** Maximum number of comments the queue can hold. */
+	private int queueCapacity;
+
+	/** Number of comments accepted into the queue. */
+	private long accepted;
+
+	/** Number of comments rejected because the queue was full. */
+	private long rejected;
+
+	/** Number of comments persisted by the worker. */
+	private long persisted;
+
+	/** Number of comments the worker failed to persist. */
+	private long failed;
+
+	/** Number of batches flushed by the worker. */
+	private long flushCount;
+
+	/** Average duration of a batch flush, in milliseconds. */
+	private double averageFlushMillis;
+
+	/** Longest duration of a batch flush, in milliseconds. */
+	private double maxFlushMillis;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	public void setQueueDepth(int queueDepth) {
+		this.queueDepth = queueDepth;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public long getAccepted() {
+		return accepted;
+	}
+
+	public void setAccepted(long accepted) {
+		this.accepted = accepted;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(long rejected) {
+		this.rejected = rejected;
+	}
+
+	public long getPersisted() {
+		return persisted;
+	}
+
+	public void setPersisted(long persisted) {
+		this.persisted = persisted;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public void setFailed(long failed) {
+		this.failed = failed;
+	}
+
+	public long getFlushCount() {
+		return flushCount;
+	}
+
+	public void setFlushCount(long flushCount) {
+		this.flushCount = flushCount;
+	}
+
+	public double getAverageFlushMillis() {
+		return averageFlushMillis;
+	}
+
+	public void setAverageFlushMillis(double averageFlushMillis) {
+		this.averageFlushMillis = averageFlushMillis;
+	}
+
+	public double getMaxFlushMillis() {
+		return maxFlushMillis;
+	}
+
+	public void setMaxFlushMillis(double maxFlushMillis) {
+		this.maxFlushMillis = maxFlushMillis;
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decoded form of a keyset pagination cursor.
+ * <p>
+ * A cursor identifies the last row of the previous page by its sort key, a
+ * timestamp plus the row ID as tie-breaker, so the next page can be read with a
+ * range predicate instead of an offset.
+ * </p>
+ */
+public class PageCursor {
+
+	/**
+	 * The timestamp of the last row returned on the previous page.
+	 */
+	private final LocalDateTime timestamp;
+
+	/**
+	 * The ID of the last row returned on the previous page.
+	 */
+	private final Long id;
+
+	public PageCursor(LocalDateTime timestamp, Long id) {
+		this.timestamp = timestamp;
+		this.id = id;
+	}
+
+	public LocalDateTime getTimestamp() {
+		return timestamp;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+}
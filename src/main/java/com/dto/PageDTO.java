@@ -0,0 +1,51 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a single page of a cursor-paginated listing.
+ * <p>
+ * The {@code nextCursor} is an opaque token. Clients pass it back unchanged to
+ * fetch the following page; it is {@code null} once the last page is reached.
+ * </p>
+ *
+ * @param <T> The type of item contained in the page.
+ */
+public class PageDTO<T> {
+
+	/**
+	 * The items contained in this page, in listing order.
+	 */
+	private List<T> items;
+
+	/**
+	 * Opaque cursor pointing just past the last item of this page, or
+	 * {@code null} when there are no more items.
+	 */
+	private String nextCursor;
+
+	public PageDTO() {
+	}
+
+	public PageDTO(List<T> items, String nextCursor) {
+		this.items = items;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public void setItems(List<T> items) {
+		this.items = items;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+}
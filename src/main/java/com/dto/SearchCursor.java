@@ -0,0 +1,37 @@
+package com.dto;
+
+/**
+ * Decoded form of a search results cursor.
+ * <p>
+ * Search results are ranked by relevance score, then by blog ID as
+ * tie-breaker, so a cursor identifies the last hit of the previous page by
+ * both and the next page is read with the index's search-after instead of an
+ * offset.
+ * </p>
+ */
+public class SearchCursor {
+
+	/**
+	 * The relevance score of the last hit returned on the previous page.
+	 */
+	private final float score;
+
+	/**
+	 * The ID of the last blog returned on the previous page.
+	 */
+	private final Long id;
+
+	public SearchCursor(float score, Long id) {
+		this.score = score;
+		this.id = id;
+	}
+
+	public float getScore() {
+		return score;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+}
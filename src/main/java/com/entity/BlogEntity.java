@@ -4,31 +4,53 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
-import jakarta.persistence.CascadeType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Entity class representing a blog post.
  * This entity is mapped to the "Blog" table in the database.
+ * The {@code (published_at, id)} index backs the keyset pagination of the blog listing,
+ * and {@code (author, published_at, id)} the same listing filtered by author.
+ * Blogs are editable, so the second-level cache region uses the READ_WRITE strategy.
  */
 @Entity
-@Table(name = "Blog")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "Blog", indexes = {
+		@Index(name = "idx_blog_published_at_id", columnList = "published_at, id"),
+		@Index(name = "idx_blog_author_published_at_id", columnList = "author, published_at, id") })
 public class BlogEntity {
 
+    /**
+     * Number of IDs reserved per round-trip to the ID sequence.
+     * blog-reactive allocates from the same sequence and keeps its own copy
+     * of this value, which must be changed with it.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * The unique identifier for the blog post.
-     * It is auto-generated using an identity strategy.
+     * It is allocated in blocks from a pooled sequence (a table on MySQL), so
+     * inserts can be batched by JDBC, which identity columns prevent.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blog_seq")
+    @SequenceGenerator(name = "blog_seq", sequenceName = "blog_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -44,10 +66,13 @@ public class BlogEntity {
     /**
      * The list of comments associated with this blog post.
      * This establishes a one-to-many relationship between a blog and its comments.
-     * Comments are cascaded, meaning they will be persisted or deleted along with the blog.
+     * Comments are not cascaded: they are persisted on their own, and deleted with
+     * set-based statements when the blog is deleted, never one entity at a time.
      * Initializing comments as an empty ArrayList<>. Otherwise it will be Null;
+     * The collection has its own READ_WRITE cache region holding comment IDs.
      */
-    @OneToMany(mappedBy = "blog", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @OneToMany(mappedBy = "blog")
     private List<CommentEntity> comments = new ArrayList<>();
     
     
@@ -62,6 +87,31 @@ public class BlogEntity {
      *  Name of Author of the Blog
      */
 	private String author;
+
+	/**
+	 * Version of the blog, used for optimistic locking and as the ETag of the
+	 * blog's representations. It is also incremented whenever a comment is
+	 * added to or removed from the blog.
+	 */
+	@Version
+	@Column(nullable = false)
+	private long version;
+
+	/**
+	 * Number of comments on the blog, denormalized so listings never touch the
+	 * Comment table. Maintained only by atomic UPDATE statements, never written
+	 * from the entity.
+	 */
+	@ColumnDefault("0")
+	@Column(nullable = false, insertable = false, updatable = false)
+	private long commentCount;
+
+	/**
+	 * Creation time of the latest comment on the blog, or null if it has none.
+	 * Maintained only by atomic UPDATE statements, never written from the entity.
+	 */
+	@Column(insertable = false, updatable = false)
+	private LocalDateTime lastCommentAt;
 	
 	
     /**
@@ -112,5 +162,17 @@ public class BlogEntity {
 		this.author = author;
 	}
 
+	public long getVersion() {
+		return version;
+	}
+
+	public long getCommentCount() {
+		return commentCount;
+	}
+
+	public LocalDateTime getLastCommentAt() {
+		return lastCommentAt;
+	}
+
 	
 }
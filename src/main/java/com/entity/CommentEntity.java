@@ -1,54 +1,96 @@
 package com.entity;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
  * Entity class representing a comment on a blog post. This entity is mapped to
- * the "Comment" table in the database.
+ * the "Comment" table in the database. The {@code (blog_id, created_at, id)}
+ * index backs the keyset pagination of a blog's comments. Comments are only
+ * ever inserted and deleted, never updated, so the entity is immutable and its
+ * second-level cache region uses the READ_ONLY strategy.
  */
 @Entity
-@Table(name = "Comment")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Immutable
+@Table(name = "Comment", indexes = {
+		@Index(name = "idx_comment_blog_created_at_id", columnList = "blog_id, created_at, id") })
 public class CommentEntity {
 
 	/**
-	 * The unique identifier for the comment. It is auto-generated using an identity
-	 * strategy.
+	 * Number of IDs reserved per round-trip to the ID sequence.
+	 * blog-reactive allocates from the same sequence and keeps its own copy
+	 * of this value, which must be changed with it.
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	/**
+	 * The unique identifier for the comment. It is allocated in blocks from a
+	 * pooled sequence (a table on MySQL), so inserts can be batched by JDBC.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+	@SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = ID_ALLOCATION_SIZE)
 	private long id;
 
 	/**
 	 * The blog post to which this comment belongs. This establishes a many-to-one
-	 * relationship with the BlogEntity.
+	 * relationship with the BlogEntity. It is lazy, so reading comments never
+	 * touches the Blog table; use {@link #getBlogId()} for the blog's ID.
 	 */
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "blog_id") // Foreign key column in the Comment table
 	private BlogEntity blog;
 
+	/**
+	 * The ID of the blog, read straight from the foreign key column. Read-only:
+	 * the column is written through {@link #blog}.
+	 */
+	@Column(name = "blog_id", insertable = false, updatable = false)
+	private Long blogId;
+
 	/**
 	 * The content of the comment.
 	 */
 	private String comment;
 
 	/**
-	 * The Creation of the comment.
+	 * The Creation of the comment. Defaults to the time it is persisted, unless
+	 * the caller sets it first to match the blog's last-comment time.
 	 */
-	@CreationTimestamp
 	@Column(nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
+	/**
+	 * Sets the creation time if the caller has not, at the column's microsecond
+	 * precision so the entity matches what is read back.
+	 */
+	@PrePersist
+	void onCreate() {
+		if (createdAt == null) {
+			createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+		}
+	}
+
 
 	/**
 	 * Getter and Setter methods for CommentDTO properties.
@@ -68,6 +110,11 @@ public class CommentEntity {
 
 	public void setBlog(BlogEntity blog) {
 		this.blog = blog;
+		this.blogId = blog == null ? null : blog.getId();
+	}
+
+	public Long getBlogId() {
+		return blogId;
 	}
 
 	public String getComment() {
@@ -82,4 +129,8 @@ public class CommentEntity {
 		return createdAt;
 	}
 
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
 }
@@ -3,6 +3,8 @@ package com.exception;
 /**
  * Custom exception thrown when a requested blog is not found.
  * This extends {@link RuntimeException} to allow unchecked exception handling.
+ * It only ever becomes a 404 response, so no stack trace is captured: lookups
+ * of unknown blogs are answered from the ID filter and should stay that cheap.
  */
 public class BlogNotFoundException extends RuntimeException {
 
@@ -12,6 +14,6 @@ public class BlogNotFoundException extends RuntimeException {
      * @param message The detail message explaining the reason for the exception.
      */
     public BlogNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
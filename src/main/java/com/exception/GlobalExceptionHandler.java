@@ -6,12 +6,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -54,6 +58,87 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles pagination cursors that cannot be decoded.
+     *
+     * @param exception The thrown {@link InvalidCursorException}.
+     * @return A response entity with an error message and HTTP status 400 (Bad Request).
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("message", exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles listing filters that contradict each other.
+     *
+     * @param exception The thrown {@link InvalidFilterException}.
+     * @return A response entity with an error message and HTTP status 400 (Bad Request).
+     */
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidFilter(InvalidFilterException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("message", exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles concurrent modifications of the same blog.
+     *
+     * @param exception The thrown {@link ObjectOptimisticLockingFailureException}.
+     * @return A response entity with an error message and HTTP status 409 (Conflict).
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.CONFLICT.value());
+        errorResponse.put("message", "The blog was modified concurrently, please retry");
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles comments rejected because the asynchronous ingestion queue is full.
+     *
+     * @param exception The thrown {@link IngestionQueueFullException}.
+     * @return A response entity with an error message, a {@code Retry-After} header
+     *         and HTTP status 503 (Service Unavailable).
+     */
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<Map<String, Object>> handleIngestionQueueFull(IngestionQueueFullException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("message", exception.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles requests that could not get a database connection in time, such as
+     * when every pooled connection is busy. Under virtual threads the pool, not the
+     * thread count, bounds concurrency, so excess load is shed here.
+     *
+     * @param exception The thrown {@link CannotCreateTransactionException}.
+     * @return A response entity with an error message, HTTP status 503 (Service Unavailable) and a Retry-After header.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Map<String, Object>> handleNoConnection(CannotCreateTransactionException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("message", "Database is busy, please retry");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * Handles validation errors for method arguments.
      *
@@ -93,6 +178,22 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles request parameters that cannot be converted to their declared type,
+     * such as a malformed date-time filter.
+     *
+     * @param exception The thrown {@link MethodArgumentTypeMismatchException}.
+     * @return A response entity with an error message and HTTP status 400 (Bad Request).
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException exception) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("message", "Invalid value for parameter '" + exception.getName() + "': " + exception.getValue());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles unmapped URLs (when no handler is found).
      *
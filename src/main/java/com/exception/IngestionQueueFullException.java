@@ -0,0 +1,17 @@
+package com.exception;
+
+/**
+ * Custom exception thrown when the asynchronous comment ingestion queue cannot accept more comments.
+ * This extends {@link RuntimeException} to allow unchecked exception handling.
+ */
+public class IngestionQueueFullException extends RuntimeException {
+
+    /**
+     * Constructs a new IngestionQueueFullException with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
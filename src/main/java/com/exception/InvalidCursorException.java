@@ -0,0 +1,17 @@
+package com.exception;
+
+/**
+ * Custom exception thrown when a pagination cursor supplied by a client cannot be decoded.
+ * This extends {@link RuntimeException} to allow unchecked exception handling.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
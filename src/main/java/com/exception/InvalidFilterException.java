@@ -0,0 +1,17 @@
+package com.exception;
+
+/**
+ * Custom exception thrown when listing filters supplied by a client contradict each other.
+ * This extends {@link RuntimeException} to allow unchecked exception handling.
+ */
+public class InvalidFilterException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidFilterException with the specified detail message.
+     *
+     * @param message The detail message explaining the reason for the exception.
+     */
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,12 @@
 package com.mapper;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import com.dto.BlogDTO;
 import com.dto.BlogWithCommentDTO;
 import com.dto.CommentDTO;
+import com.dto.PageDTO;
 import com.entity.BlogEntity;
-import com.repository.BlogRepository;
 
 /**
  * Mapper class for converting between BlogEntity and DTOs. Provides utility
@@ -29,6 +27,9 @@ public class BlogMapper {
 		blog.setId(blogEntity.getId());
 		blog.setAuthor(blogEntity.getAuthor());
 		blog.setPublishedAt(blogEntity.getPublishedAt());
+		blog.setVersion(blogEntity.getVersion());
+		blog.setCommentCount(blogEntity.getCommentCount());
+		blog.setLastCommentAt(blogEntity.getLastCommentAt());
 		return blog;
 	}
 
@@ -49,24 +50,48 @@ public class BlogMapper {
 	}
 
 	/**
-	 * Converts a {@link BlogEntity} to a {@link BlogWithCommentDTO}, including its
-	 * associated comments.
+	 * Trims a page of {@link BlogDTO} rows into a {@link PageDTO}.
+	 * <p>
+	 * The rows are expected to have been read with a limit of {@code size + 1};
+	 * the extra row only signals that a further page exists and is not returned.
+	 * </p>
 	 *
-	 * @param blog The blog entity containing comments.
+	 * @param blogList The rows read for this page, in listing order.
+	 * @param size     The requested page size.
+	 * @return A {@link PageDTO} of {@link BlogDTO} with the cursor of the next page.
+	 */
+	public static PageDTO<BlogDTO> convertToPage(List<BlogDTO> blogList, int size) {
+		String nextCursor = null;
+		if (blogList.size() > size) {
+			blogList = blogList.subList(0, size);
+			BlogDTO last = blogList.get(size - 1);
+			nextCursor = CursorMapper.encode(last.getPublishedAt(), last.getId());
+		}
+
+		return new PageDTO<>(blogList, nextCursor);
+	}
+
+	/**
+	 * Converts a {@link BlogDTO} to a {@link BlogWithCommentDTO}, including the
+	 * first page of its comments.
+	 *
+	 * @param blog     The blog.
+	 * @param comments The first page of the blog's comments.
 	 * @return A {@link BlogWithCommentDTO} with blog and comment details.
 	 */
-	public static BlogWithCommentDTO convertToBlogWithCommentDTO(BlogEntity blog) {
+	public static BlogWithCommentDTO convertToBlogWithCommentDTO(BlogDTO blog, PageDTO<CommentDTO> comments) {
 		BlogWithCommentDTO blogDto = new BlogWithCommentDTO();
-		List<CommentDTO> commentList = new ArrayList<>();
-
-		blog.getComments().forEach(comment -> commentList.add(CommentMapper.convertToDTO(comment)));
 
 		blogDto.setId(blog.getId());
 		blogDto.setTitle(blog.getTitle());
 		blogDto.setContent(blog.getContent());
-		blogDto.setComments(commentList);
+		blogDto.setComments(comments.getItems());
+		blogDto.setNextCommentCursor(comments.getNextCursor());
 		blogDto.setAuthor(blog.getAuthor());
 		blogDto.setPublishedAt(blog.getPublishedAt());
+		blogDto.setVersion(blog.getVersion());
+		blogDto.setCommentCount(blog.getCommentCount());
+		blogDto.setLastCommentAt(blog.getLastCommentAt());
 
 		return blogDto;
 	}
@@ -1,6 +1,9 @@
 package com.mapper;
 
+import java.util.List;
+
 import com.dto.CommentDTO;
+import com.dto.PageDTO;
 import com.entity.CommentEntity;
 
 /**
@@ -17,7 +20,7 @@ public class CommentMapper {
      */
     public static CommentDTO convertToDTO(CommentEntity commentEntity) {
         CommentDTO commentDto = new CommentDTO();
-        commentDto.setBlogId(commentEntity.getBlog().getId());
+        commentDto.setBlogId(commentEntity.getBlogId());
         commentDto.setId(commentEntity.getId());
         commentDto.setComment(commentEntity.getComment());
         commentDto.setCreatedAt(commentEntity.getCreatedAt());
@@ -38,4 +41,26 @@ public class CommentMapper {
         commentEntity.setComment(commentDto.getComment());
         return commentEntity;
     }
+
+    /**
+     * Trims a page of {@link CommentDTO} rows into a {@link PageDTO}.
+     * <p>
+     * The rows are expected to have been read with a limit of {@code size + 1};
+     * the extra row only signals that a further page exists and is not returned.
+     * </p>
+     *
+     * @param commentList The rows read for this page, in listing order.
+     * @param size        The requested page size.
+     * @return A {@link PageDTO} of {@link CommentDTO} with the cursor of the next page.
+     */
+    public static PageDTO<CommentDTO> convertToPage(List<CommentDTO> commentList, int size) {
+        String nextCursor = null;
+        if (commentList.size() > size) {
+            commentList = commentList.subList(0, size);
+            CommentDTO last = commentList.get(size - 1);
+            nextCursor = CursorMapper.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new PageDTO<>(commentList, nextCursor);
+    }
 }
@@ -0,0 +1,85 @@
+package com.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.dto.PageCursor;
+import com.dto.SearchCursor;
+import com.exception.InvalidCursorException;
+
+/**
+ * Mapper class for converting between {@link PageCursor} or {@link SearchCursor}
+ * and the opaque cursor strings handed out to API clients.
+ */
+public class CursorMapper {
+
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * Encodes the sort key of the last row of a page into an opaque cursor.
+	 *
+	 * @param timestamp The timestamp of the last row.
+	 * @param id        The ID of the last row.
+	 * @return A URL-safe cursor string.
+	 */
+	public static String encode(LocalDateTime timestamp, Long id) {
+		String raw = timestamp + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a cursor previously produced by {@link #encode(LocalDateTime, Long)}.
+	 *
+	 * @param cursor The opaque cursor string.
+	 * @return The decoded {@link PageCursor}.
+	 * @throws InvalidCursorException If the cursor is malformed.
+	 */
+	public static PageCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new InvalidCursorException("Invalid page cursor: " + cursor);
+			}
+			return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+					Long.valueOf(raw.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("Invalid page cursor: " + cursor);
+		}
+	}
+
+	/**
+	 * Encodes the rank of the last hit of a search results page into an opaque cursor.
+	 *
+	 * @param score The relevance score of the last hit.
+	 * @param id    The blog ID of the last hit.
+	 * @return A URL-safe cursor string.
+	 */
+	public static String encodeSearch(float score, Long id) {
+		String raw = score + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a cursor previously produced by {@link #encodeSearch(float, Long)}.
+	 *
+	 * @param cursor The opaque cursor string.
+	 * @return The decoded {@link SearchCursor}.
+	 * @throws InvalidCursorException If the cursor is malformed.
+	 */
+	public static SearchCursor decodeSearch(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new InvalidCursorException("Invalid search cursor: " + cursor);
+			}
+			return new SearchCursor(Float.parseFloat(raw.substring(0, separator)),
+					Long.valueOf(raw.substring(separator + 1)));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidCursorException("Invalid search cursor: " + cursor);
+		}
+	}
+}
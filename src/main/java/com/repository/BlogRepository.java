@@ -1,20 +1,33 @@
 package com.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.dto.BlogDTO;
 import com.entity.BlogEntity;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for performing database operations on the Blog entity.
- * Extends {@link JpaRepository} to provide CRUD functionality.
+ * Extends {@link JpaRepository} to provide CRUD functionality, and
+ * {@link BlogRepositoryCustom} for the filtered blog listing.
  */
 @Repository
-public interface BlogRepository extends JpaRepository<BlogEntity, Long> {
+public interface BlogRepository extends JpaRepository<BlogEntity, Long>, BlogRepositoryCustom {
 
     /**
      * Retrieves a blog by its ID.
@@ -25,12 +38,152 @@ public interface BlogRepository extends JpaRepository<BlogEntity, Long> {
     Optional<BlogEntity> getBlogById(Long blogId);
 
     /**
-     * Fetches a blog along with its associated comments using a JPQL query.
-     * Uses LEFT JOIN FETCH to load comments eagerly.
+     * JPQL constructor expression selecting exactly the columns of a {@link BlogDTO}.
+     */
+    String BLOG_DTO = "SELECT new com.dto.BlogDTO(b.id, b.title, b.content, b.author, b.publishedAt,"
+            + " b.version, b.commentCount, b.lastCommentAt) FROM BlogEntity b";
+
+    /**
+     * Reads a blog by its ID straight into a {@link BlogDTO}, without loading the entity.
+     * 
+     * @param id The ID of the blog.
+     * @return An {@link Optional} containing the blog if found, otherwise empty.
+     */
+    @Query(BLOG_DTO + " WHERE b.id = :id")
+    Optional<BlogDTO> findDtoById(@Param("id") Long id);
+
+    /**
+     * Reads the blogs with the given IDs straight into {@link BlogDTO}s, in no
+     * particular order. Missing IDs are skipped.
+     * 
+     * @param ids The IDs of the blogs.
+     * @return A list of the {@link BlogDTO}s found.
+     */
+    @Query(BLOG_DTO + " WHERE b.id IN :ids")
+    List<BlogDTO> findDtosByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams every blog in ID order as {@link BlogDTO} projections, so no entity
+     * is loaded into the persistence context.
+     * The JDBC fetch size keeps only a window of rows in memory; the stream must be
+     * consumed inside a transaction and closed afterwards.
+     * 
+     * @return A {@link Stream} of all blogs.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(BLOG_DTO + " ORDER BY b.id")
+    Stream<BlogDTO> streamAllOrderById();
+
+    /**
+     * Streams every blog ID, read from the primary key index alone.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     * 
+     * @return A {@link Stream} of all blog IDs.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT b.id FROM BlogEntity b")
+    Stream<Long> streamAllIds();
+
+    /**
+     * Reads only the version of a blog, without loading the entity.
+     * Used to answer conditional requests cheaply.
+     * 
+     * @param id The ID of the blog.
+     * @return An {@link Optional} containing the version if the blog exists.
+     */
+    @Query("SELECT b.version FROM BlogEntity b WHERE b.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Records new comments on a blog in a single atomic UPDATE: adds to the
+     * comment count, increments the version and moves the last-comment time forward.
+     * Must be called inside a transaction.
+     * 
+     * @param id          The ID of the blog.
+     * @param count       The number of comments added.
+     * @param commentedAt The creation time of the newest added comment.
+     * @return The number of rows updated; {@code 0} if the blog does not exist.
+     */
+    @Modifying
+    @Query("UPDATE BlogEntity b SET b.commentCount = b.commentCount + :count, b.version = b.version + 1,"
+            + " b.lastCommentAt = CASE WHEN b.lastCommentAt IS NULL OR b.lastCommentAt < :commentedAt"
+            + " THEN :commentedAt ELSE b.lastCommentAt END"
+            + " WHERE b.id = :id")
+    int incrementCommentCount(@Param("id") Long id, @Param("count") long count,
+            @Param("commentedAt") LocalDateTime commentedAt);
+
+    /**
+     * Records the removal of a comment from a blog in a single atomic UPDATE:
+     * decrements the comment count, increments the version and recomputes the
+     * last-comment time from the remaining comments.
+     * Must be called inside a transaction, after the comment has been deleted.
+     * 
+     * @param id The ID of the blog.
+     * @return The number of rows updated; {@code 0} if the blog does not exist.
+     */
+    @Modifying
+    @Query("UPDATE BlogEntity b SET b.commentCount = b.commentCount - 1, b.version = b.version + 1,"
+            + " b.lastCommentAt = (SELECT MAX(c.createdAt) FROM CommentEntity c WHERE c.blog.id = :id)"
+            + " WHERE b.id = :id")
+    int decrementCommentCount(@Param("id") Long id);
+
+    /**
+     * Recomputes the comment count and last-comment time of every blog in an ID
+     * range from the Comment table. Only rows whose stored values drifted are
+     * written, and their version is incremented so ETags change.
+     * Must be called inside a transaction.
+     * 
+     * @param fromId The first blog ID of the range, inclusive.
+     * @param toId   The last blog ID of the range, inclusive.
+     * @return The number of blogs that were corrected.
+     */
+    @Modifying
+    @Query("UPDATE BlogEntity b SET"
+            + " b.commentCount = (SELECT COUNT(c) FROM CommentEntity c WHERE c.blog.id = b.id),"
+            + " b.lastCommentAt = (SELECT MAX(c.createdAt) FROM CommentEntity c WHERE c.blog.id = b.id),"
+            + " b.version = b.version + 1"
+            + " WHERE b.id BETWEEN :fromId AND :toId"
+            + " AND (b.commentCount <> (SELECT COUNT(c) FROM CommentEntity c WHERE c.blog.id = b.id)"
+            + " OR b.lastCommentAt IS DISTINCT FROM (SELECT MAX(c.createdAt) FROM CommentEntity c WHERE c.blog.id = b.id))")
+    int repairCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Reads the lowest blog ID.
+     * 
+     * @return An {@link Optional} containing the lowest ID, empty if there are no blogs.
+     */
+    @Query("SELECT MIN(b.id) FROM BlogEntity b")
+    Optional<Long> findMinId();
+
+    /**
+     * Reads the highest blog ID.
+     * 
+     * @return An {@link Optional} containing the highest ID, empty if there are no blogs.
+     */
+    @Query("SELECT MAX(b.id) FROM BlogEntity b")
+    Optional<Long> findMaxId();
+
+    /**
+     * Locks a blog row for the rest of the current transaction (SELECT ... FOR UPDATE)
+     * without loading the entity. Comments inserted concurrently wait on this lock,
+     * so the blog can be deleted without racing them.
+     * 
+     * @param id The ID of the blog.
+     * @return An {@link Optional} containing the ID if the blog exists.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b.id FROM BlogEntity b WHERE b.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /**
+     * Deletes a blog row with a single DELETE statement, without loading it or
+     * cascading to its comments. Must be called inside a transaction, after the
+     * blog's comments have been deleted.
      * 
      * @param id The ID of the blog.
-     * @return An {@link Optional} containing the blog with comments if found.
+     * @return The number of rows deleted; {@code 0} if the blog does not exist.
      */
-    @Query("SELECT b FROM BlogEntity b LEFT JOIN FETCH b.comments WHERE b.id = :id")
-    Optional<BlogEntity> findByIdWithComments(@Param("id") Long id);
+    @Modifying
+    @Query("DELETE FROM BlogEntity b WHERE b.id = :id")
+    int deleteBlogById(@Param("id") Long id);
 }
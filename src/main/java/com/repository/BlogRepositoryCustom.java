@@ -0,0 +1,30 @@
+package com.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.dto.BlogDTO;
+import com.dto.PageCursor;
+
+/**
+ * Custom repository fragment for blog queries whose shape depends on the
+ * arguments, implemented by {@link BlogRepositoryCustomImpl} and exposed
+ * through {@link BlogRepository}.
+ */
+public interface BlogRepositoryCustom {
+
+    /**
+     * Fetches one page of blogs, newest first, as {@link BlogDTO} projections,
+     * optionally filtered by author and publishing time.
+     * Only the predicates of the filters actually given are part of the query,
+     * so each combination is answered by a range scan of a matching index.
+     * 
+     * @param author The exact author name, or {@code null} for any author.
+     * @param from   The earliest publishing time, inclusive, or {@code null} for no lower bound.
+     * @param to     The latest publishing time, exclusive, or {@code null} for no upper bound.
+     * @param after  The keyset position of the last blog on the previous page, or {@code null} for the first page.
+     * @param limit  The maximum number of rows to read.
+     * @return A list of at most {@code limit} {@link BlogDTO}.
+     */
+    List<BlogDTO> findPage(String author, LocalDateTime from, LocalDateTime to, PageCursor after, int limit);
+}
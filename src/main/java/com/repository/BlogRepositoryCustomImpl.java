@@ -0,0 +1,76 @@
+package com.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.dto.BlogDTO;
+import com.dto.PageCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Implementation of {@link BlogRepositoryCustom}.
+ * <p>
+ * The listing query is assembled from the filters that are present instead of
+ * using {@code (:param IS NULL OR ...)} predicates, which keep the database from
+ * choosing a range scan. With the indexes declared on
+ * {@link com.entity.BlogEntity}, each combination seeks straight to its rows:
+ * </p>
+ * <ul>
+ * <li>no author: {@code (published_at, id)}, scanned backwards within the date range;</li>
+ * <li>an author: {@code (author, published_at, id)}, scanned backwards within the
+ * author's date range.</li>
+ * </ul>
+ * Both indexes already deliver the {@code publishedAt DESC, id DESC} order, so no sort is needed.
+ */
+public class BlogRepositoryCustomImpl implements BlogRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param entityManager The entity manager used to run the assembled queries.
+     */
+    public BlogRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<BlogDTO> findPage(String author, LocalDateTime from, LocalDateTime to, PageCursor after,
+            int limit) {
+        StringBuilder jpql = new StringBuilder(BlogRepository.BLOG_DTO).append(" WHERE 1 = 1");
+        if (author != null) {
+            jpql.append(" AND b.author = :author");
+        }
+        if (from != null) {
+            jpql.append(" AND b.publishedAt >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND b.publishedAt < :to");
+        }
+        if (after != null) {
+            // The redundant upper bound gives the keyset predicate a plain range the index can seek to.
+            jpql.append(" AND b.publishedAt <= :publishedAt")
+                    .append(" AND (b.publishedAt < :publishedAt OR (b.publishedAt = :publishedAt AND b.id < :id))");
+        }
+        jpql.append(" ORDER BY b.publishedAt DESC, b.id DESC");
+
+        TypedQuery<BlogDTO> query = entityManager.createQuery(jpql.toString(), BlogDTO.class);
+        if (author != null) {
+            query.setParameter("author", author);
+        }
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        if (after != null) {
+            query.setParameter("publishedAt", after.getTimestamp());
+            query.setParameter("id", after.getId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -1,15 +1,24 @@
 package com.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.dto.CommentDTO;
 import com.entity.CommentEntity;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@link CommentEntity} operations in the database.
  * Extends {@link JpaRepository} to provide CRUD functionality.
@@ -26,11 +35,101 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     List<CommentEntity> findByBlogId(Long blogId);
 
     /**
-     * Fetches a comment by its ID using a Custom query.
+     * JPQL constructor expression selecting exactly the columns of a {@link CommentDTO}.
+     */
+    String COMMENT_DTO = "SELECT new com.dto.CommentDTO(c.id, c.comment, c.blogId, c.createdAt)"
+            + " FROM CommentEntity c";
+
+    /**
+     * Fetches a comment by its ID, scoped to the blog it belongs to, with one query,
+     * straight into a {@link CommentDTO}.
+     * A comment of another blog is not found. The result is eligible for the query cache.
+     * 
+     * @param commentId The ID of the comment.
+     * @param blogId    The ID of the blog the comment must belong to.
+     * @return An {@link Optional} containing the comment if found on that blog.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(COMMENT_DTO + " WHERE c.id = :commentId AND c.blogId = :blogId")
+    Optional<CommentDTO> findByIdAndBlogId(@Param("commentId") Long commentId, @Param("blogId") Long blogId);
+
+    /**
+     * Deletes a comment by its ID, scoped to the blog it belongs to, with one DELETE statement.
+     * Must be called inside a transaction.
      * 
      * @param commentId The ID of the comment.
-     * @return An {@link Optional} containing the comment if found.
+     * @param blogId    The ID of the blog the comment must belong to.
+     * @return The number of comments deleted: 1, or 0 if the blog has no such comment.
+     */
+    @Modifying
+    @Query("DELETE FROM CommentEntity c WHERE c.id = :commentId AND c.blog.id = :blogId")
+    int deleteByIdAndBlogId(@Param("commentId") Long commentId, @Param("blogId") Long blogId);
+
+    /**
+     * Fetches the first page of comments of a blog, oldest first, as {@link CommentDTO} projections.
+     * Only {@code pageable.getPageSize()} rows are read from the database.
+     * The result is eligible for the query cache.
+     * 
+     * @param blogId   The ID of the blog.
+     * @param pageable The page request carrying the row limit.
+     * @return A list of at most {@code pageable.getPageSize()} {@link CommentDTO}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(COMMENT_DTO + " WHERE c.blogId = :blogId ORDER BY c.createdAt, c.id")
+    List<CommentDTO> findFirstPageByBlogId(@Param("blogId") Long blogId, Pageable pageable);
+
+    /**
+     * Fetches the page of comments of a blog following the given keyset position, oldest first,
+     * as {@link CommentDTO} projections.
+     * 
+     * @param blogId    The ID of the blog.
+     * @param createdAt The creation time of the last comment on the previous page.
+     * @param id        The ID of the last comment on the previous page.
+     * @param pageable  The page request carrying the row limit.
+     * @return A list of at most {@code pageable.getPageSize()} {@link CommentDTO}.
+     */
+    @Query(COMMENT_DTO + " WHERE c.blogId = :blogId"
+            + " AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))"
+            + " ORDER BY c.createdAt, c.id")
+    List<CommentDTO> findPageByBlogIdAfter(@Param("blogId") Long blogId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Streams every comment as a {@link CommentDTO}, ordered by blog and then by
+     * creation time and ID, the order the comment API lists them in. That order
+     * is the one the {@code (blog_id, created_at, id)} index holds, so the rows
+     * are read along the index without a sort. Rows are projected straight into
+     * DTOs, so no entities are loaded and the blog association is never joined.
+     * 
+     * @return A {@link Stream} of all comments; must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(COMMENT_DTO + " ORDER BY c.blogId, c.createdAt, c.id")
+    Stream<CommentDTO> streamAllOrderByBlogId();
+
+    /**
+     * Deletes at most {@code limit} comments of a blog with one DELETE statement.
+     * Called repeatedly, each time in its own short transaction, so a blog with a
+     * huge number of comments never holds locks or undo log for all of them at once.
+     * Only the Comment table's cache regions are invalidated.
+     * 
+     * @param blogId The ID of the blog.
+     * @param limit  The maximum number of comments to delete.
+     * @return The number of comments deleted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment"))
+    @Query(value = "DELETE FROM comment WHERE blog_id = :blogId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByBlogId(@Param("blogId") Long blogId, @Param("limit") int limit);
+
+    /**
+     * Deletes all comments of a blog with one DELETE statement.
+     * Must be called inside a transaction.
+     * 
+     * @param blogId The ID of the blog.
+     * @return The number of comments deleted.
      */
-    @Query("FROM CommentEntity c WHERE c.id = :commentId")
-    Optional<CommentEntity> fetchCommentById(@Param("commentId") Long commentId);
+    @Modifying
+    @Query("DELETE FROM CommentEntity c WHERE c.blog.id = :blogId")
+    int deleteAllByBlogId(@Param("blogId") Long blogId);
 }
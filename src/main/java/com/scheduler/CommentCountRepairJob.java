@@ -0,0 +1,93 @@
+package com.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.config.CacheConfig;
+import com.repository.BlogRepository;
+
+/**
+ * Background job that recomputes the denormalized comment count and
+ * last-comment time of every blog from the Comment table.
+ * <p>
+ * The counters are normally kept exact by the atomic updates in the comment
+ * service; this job repairs any drift, e.g. after manual data fixes. Blogs are
+ * processed in ID ranges of bounded size, each in its own short transaction, so
+ * locks are only held on one batch at a time. A repair bumps the blog's
+ * version, so the cached blogs of every batch that corrected anything are
+ * evicted once it commits, keeping cached bodies and ETags in step.
+ * </p>
+ */
+@Component
+public class CommentCountRepairJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CommentCountRepairJob.class);
+
+	private final BlogRepository blogRepo;
+	private final TransactionTemplate transactionTemplate;
+	private final CacheManager cacheManager;
+	private final int batchSize;
+
+	/**
+	 * Constructor-based dependency injection.
+	 *
+	 * @param blogRepo            Repository for blogs.
+	 * @param transactionTemplate Template used to run each batch in its own transaction.
+	 * @param cacheManager        Cache manager used to evict the repaired blogs.
+	 * @param batchSize           Number of blog IDs covered by one batch.
+	 */
+	public CommentCountRepairJob(BlogRepository blogRepo, TransactionTemplate transactionTemplate,
+			CacheManager cacheManager, @Value("${blog.comment-count-repair.batch-size:1000}") int batchSize) {
+		this.blogRepo = blogRepo;
+		this.transactionTemplate = transactionTemplate;
+		this.cacheManager = cacheManager;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Recomputes the counters of all blogs, batch by batch.
+	 *
+	 * @return The number of blogs whose counters were corrected.
+	 */
+	@Scheduled(cron = "${blog.comment-count-repair.cron:0 0 3 * * *}")
+	public int repairCommentCounts() {
+		Long minId = blogRepo.findMinId().orElse(null);
+		Long maxId = blogRepo.findMaxId().orElse(null);
+		if (minId == null || maxId == null) {
+			return 0;
+		}
+
+		int repaired = 0;
+		for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+			long toId = Math.min(fromId + batchSize - 1, maxId);
+			final long from = fromId;
+			int batchRepaired = transactionTemplate.execute(status -> blogRepo.repairCommentCounts(from, toId));
+			if (batchRepaired > 0) {
+				evict(from, toId);
+			}
+			repaired += batchRepaired;
+		}
+
+		LOGGER.info("Comment count repair finished: {} blog(s) corrected between IDs {} and {}", repaired, minId, maxId);
+		return repaired;
+	}
+
+	/**
+	 * Evicts the cached blogs of one batch. The repair query does not report
+	 * which blogs it corrected, so the whole ID range is evicted.
+	 */
+	private void evict(long fromId, long toId) {
+		Cache blogs = cacheManager.getCache(CacheConfig.BLOGS);
+		Cache blogsWithComments = cacheManager.getCache(CacheConfig.BLOG_WITH_COMMENTS);
+		for (long id = fromId; id <= toId; id++) {
+			blogs.evict(id);
+			blogsWithComments.evict(id);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for bulk export of blogs.
+ * Defines methods for writing every blog together with its comments to a stream.
+ */
+public interface BlogExportService {
+
+    /**
+     * Writes every blog with all of its comments as newline-delimited JSON,
+     * one blog per line.
+     *
+     * @param out The stream the export is written to. It is flushed but not closed.
+     * @throws IOException If writing to the stream fails.
+     */
+    void exportBlogs(OutputStream out) throws IOException;
+}
@@ -0,0 +1,39 @@
+package com.service;
+
+/**
+ * Service interface for the in-memory filter of existing blog IDs.
+ * Answers "definitely absent" for IDs that were never created, so lookups of
+ * unknown blogs can be answered with 404 without querying the database.
+ */
+public interface BlogIdFilterService {
+
+    /**
+     * Tells whether a blog might exist. {@code false} is definite; {@code true}
+     * means the database has to be asked.
+     *
+     * @param blogId The ID of the blog.
+     * @return {@code false} if the blog certainly does not exist.
+     */
+    boolean mightExist(Long blogId);
+
+    /**
+     * Adds the ID of a blog being created. Must be called before the creating
+     * transaction commits, so the blog is never reported absent once visible.
+     *
+     * @param blogId The ID of the new blog.
+     */
+    void addBlog(Long blogId);
+
+    /**
+     * Records that the database did not find a blog the filter could not rule
+     * out, which feeds the false-positive rate.
+     *
+     * @param blogId The ID of the blog that was not found.
+     */
+    void recordNotFound(Long blogId);
+
+    /**
+     * Rebuilds the filter from the database, dropping the IDs of deleted blogs.
+     */
+    void rebuildFilter();
+}
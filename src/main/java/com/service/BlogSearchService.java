@@ -0,0 +1,43 @@
+package com.service;
+
+import com.dto.BlogDTO;
+import com.dto.PageDTO;
+
+/**
+ * Service interface for full-text search over blogs.
+ * Defines methods for querying the search index and keeping it in step with
+ * blog writes.
+ */
+public interface BlogSearchService {
+
+    /**
+     * Searches blog titles, contents and authors, best match first.
+     *
+     * @param query  The search text.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size   The maximum number of blogs to return.
+     * @return A {@link PageDTO} of {@link BlogDTO} with the cursor of the next page.
+     */
+    PageDTO<BlogDTO> searchBlogs(String query, String cursor, int size);
+
+    /**
+     * Adds a blog to the index, or replaces its entry. When called inside a
+     * transaction, the index is only changed once the transaction commits.
+     *
+     * @param blog The blog to index.
+     */
+    void indexBlog(BlogDTO blog);
+
+    /**
+     * Removes a blog from the index. When called inside a transaction, the index
+     * is only changed once the transaction commits.
+     *
+     * @param blogId The ID of the blog to remove.
+     */
+    void removeBlog(Long blogId);
+
+    /**
+     * Rebuilds the whole index from the database.
+     */
+    void rebuildIndex();
+}
@@ -1,9 +1,13 @@
 package com.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+
 import org.springframework.stereotype.Service;
 import com.dto.BlogDTO;
 import com.dto.BlogWithCommentDTO;
+import com.dto.BulkResultDTO;
+import com.dto.PageDTO;
 
 /**
  * Service interface for managing blog-related operations.
@@ -13,11 +17,17 @@ import com.dto.BlogWithCommentDTO;
 public interface BlogService {
 
     /**
-     * Retrieves all blogs.
+     * Retrieves one page of blogs, newest first, optionally filtered by author
+     * and publishing time.
      * 
-     * @return A list of {@link BlogDTO} representing all available blogs.
+     * @param author The exact author name, or {@code null} for any author.
+     * @param from The earliest publishing time, inclusive, or {@code null} for no lower bound.
+     * @param to The latest publishing time, exclusive, or {@code null} for no upper bound.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The maximum number of blogs to return.
+     * @return A {@link PageDTO} of {@link BlogDTO} with the cursor of the next page.
      */
-    List<BlogDTO> getAllBlogs();
+    PageDTO<BlogDTO> getAllBlogs(String author, LocalDateTime from, LocalDateTime to, String cursor, int size);
 
     /**
      * Creates a new blog entry.
@@ -27,6 +37,15 @@ public interface BlogService {
      */
     BlogDTO createBlog(BlogDTO blogDto);
 
+    /**
+     * Creates many blog entries at once.
+     * Invalid entries are reported without preventing the valid ones from being created.
+     * 
+     * @param blogDtos The list of {@link BlogDTO} to create.
+     * @return A {@link BulkResultDTO} with the created blogs and the rejected entries.
+     */
+    BulkResultDTO<BlogDTO> createBlogs(List<BlogDTO> blogDtos);
+
     /**
      * Retrieves a blog by its ID.
      * 
@@ -35,6 +54,14 @@ public interface BlogService {
      */
     BlogDTO getBlogById(Long blogId);
 
+    /**
+     * Retrieves only the current version of a blog.
+     * 
+     * @param blogId The unique ID of the blog.
+     * @return The version of the blog.
+     */
+    long getBlogVersion(Long blogId);
+
     /**
      * Updates an existing blog.
      * 
@@ -0,0 +1,35 @@
+package com.service;
+
+import com.dto.CommentDTO;
+import com.dto.CommentReceiptDTO;
+import com.dto.IngestionStatsDTO;
+
+/**
+ * Service interface for asynchronous, write-behind comment ingestion.
+ * Defines methods for queueing comments and inspecting the queue.
+ */
+public interface CommentIngestionService {
+
+    /**
+     * Tells whether asynchronous ingestion is enabled.
+     *
+     * @return {@code true} if comments should be submitted through this service.
+     */
+    boolean isEnabled();
+
+    /**
+     * Queues a validated comment for a blog; it is persisted later in a batch.
+     *
+     * @param blogId The ID of the blog the comment belongs to.
+     * @param commentDto The {@link CommentDTO} containing the comment details.
+     * @return A {@link CommentReceiptDTO} carrying the tracking ID of the submission.
+     */
+    CommentReceiptDTO submitComment(Long blogId, CommentDTO commentDto);
+
+    /**
+     * Retrieves the current queue statistics.
+     *
+     * @return An {@link IngestionStatsDTO} describing the queue and its worker.
+     */
+    IngestionStatsDTO getStats();
+}
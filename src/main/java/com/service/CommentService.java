@@ -1,6 +1,9 @@
 package com.service;
 
+import java.util.List;
+
 import com.dto.CommentDTO;
+import com.dto.PageDTO;
 
 /**
  * Service interface for managing comments.
@@ -17,6 +20,14 @@ public interface CommentService {
      */
     CommentDTO createComment(Long id, CommentDTO commentDto);
 
+    /**
+     * Creates many comments, possibly for different blogs, in one transaction.
+     * Used by the asynchronous ingestion worker to flush its queue in batches.
+     *
+     * @param commentDtos The comments to create; each must carry its blog ID.
+     */
+    void createComments(List<CommentDTO> commentDtos);
+
     /**
      * Fetches a specific comment from a blog.
      *
@@ -26,6 +37,16 @@ public interface CommentService {
      */
     CommentDTO fetchComment(Long id, Long commentId);
     
+    /**
+     * Retrieves one page of comments of a blog, oldest first.
+     *
+     * @param blogId The ID of the blog.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The maximum number of comments to return.
+     * @return A {@link PageDTO} of {@link CommentDTO} with the cursor of the next page.
+     */
+    PageDTO<CommentDTO> getComments(Long blogId, String cursor, int size);
+
     /**
      * Delete a specific comment from a blog.
      *
@@ -0,0 +1,108 @@
+package com.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dto.BlogDTO;
+import com.dto.CommentDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.repository.BlogRepository;
+import com.repository.CommentRepository;
+import com.service.BlogExportService;
+
+/**
+ * Implementation of {@link BlogExportService} that streams the export with
+ * constant memory use.
+ * <p>
+ * Blogs (ordered by ID) and comments (ordered by blog ID, then as the API
+ * lists them) are read through two fetch-size-tuned cursors and merged, so the
+ * whole export costs two queries.
+ * Both cursors select straight into DTOs, so nothing enters the persistence
+ * context, and each line is written straight to the output stream; nothing
+ * accumulates on the heap.
+ * </p>
+ */
+@Service
+public class BlogExportServiceImpl implements BlogExportService {
+
+    /** Number of blogs written between stream flushes. */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final BlogRepository blogRepo;
+    private final CommentRepository commentRepo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param blogRepo      Repository for blogs.
+     * @param commentRepo   Repository for comments.
+     * @param objectMapper  The application's Jackson mapper.
+     */
+    public BlogExportServiceImpl(BlogRepository blogRepo, CommentRepository commentRepo,
+            ObjectMapper objectMapper) {
+        this.blogRepo = blogRepo;
+        this.commentRepo = commentRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every blog with all of its comments as newline-delimited JSON.
+     *
+     * @param out The stream the export is written to.
+     * @throws IOException If writing to the stream fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBlogs(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are separated explicitly, not by Jackson's default root value separator.
+        generator.setRootValueSeparator(null);
+
+        try (Stream<BlogDTO> blogs = blogRepo.streamAllOrderById();
+                Stream<CommentDTO> comments = commentRepo.streamAllOrderByBlogId()) {
+
+            Iterator<CommentDTO> commentIterator = comments.iterator();
+            CommentDTO pending = commentIterator.hasNext() ? commentIterator.next() : null;
+            int written = 0;
+
+            for (Iterator<BlogDTO> blogIterator = blogs.iterator(); blogIterator.hasNext();) {
+                BlogDTO blog = blogIterator.next();
+
+                generator.writeStartObject();
+                generator.writeNumberField("id", blog.getId());
+                generator.writeStringField("title", blog.getTitle());
+                generator.writeStringField("content", blog.getContent());
+                generator.writeStringField("author", blog.getAuthor());
+                generator.writeObjectField("publishedAt", blog.getPublishedAt());
+                generator.writeArrayFieldStart("comments");
+
+                // Skip comments without a blog or whose blog sorts before this one.
+                while (pending != null && (pending.getBlogId() == null || pending.getBlogId() < blog.getId())) {
+                    pending = commentIterator.hasNext() ? commentIterator.next() : null;
+                }
+                while (pending != null && pending.getBlogId().equals(blog.getId())) {
+                    generator.writeObject(pending);
+                    pending = commentIterator.hasNext() ? commentIterator.next() : null;
+                }
+
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        generator.flush();
+    }
+}
@@ -0,0 +1,292 @@
+package com.service.impl;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.repository.BlogRepository;
+import com.service.BlogIdFilterService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Implementation of {@link BlogIdFilterService} backed by a Bloom filter of
+ * the existing blog IDs.
+ * <p>
+ * The filter is built from the primary key at startup, before the web server
+ * accepts requests, and every blog created by this instance is added before its
+ * transaction commits. A Bloom filter cannot forget, so deleted blogs stay
+ * "might exist" and show up as false positives until the next rebuild, which
+ * also resizes the filter to the current number of blogs.
+ * </p>
+ * <p>
+ * Like the search index, the filter only learns about blogs created through
+ * this instance. A blog created by another writer, such as a second instance or
+ * the reactive service, would be reported absent until the next scheduled
+ * rebuild, so the filter is only for single-writer deployments and stays off
+ * unless {@code blog.id-filter.enabled=true}.
+ * </p>
+ * <p>
+ * Lookups, false positives and the observed and expected false-positive rates
+ * are exported as {@code blog.id.filter.*} meters.
+ * </p>
+ */
+@Service
+public class BlogIdFilterServiceImpl implements BlogIdFilterService, InitializingBean, MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlogIdFilterServiceImpl.class);
+
+    /**
+     * Additions younger than this may belong to transactions that had not
+     * committed when a rebuild read the table, so the rebuild replays them.
+     */
+    private static final long RECENT_ADDITION_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final BlogRepository blogRepo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final double falsePositiveProbability;
+    private final long minimumCapacity;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter nextFilter;
+    private final ConcurrentLinkedDeque<RecentAddition> recentAdditions = new ConcurrentLinkedDeque<>();
+
+    private final LongAdder absent = new LongAdder();
+    private final LongAdder maybe = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param blogRepo                 Repository for blogs.
+     * @param transactionManager       Transaction manager used for the read-only rebuild transaction.
+     * @param enabled                  Whether lookups are filtered at all.
+     * @param falsePositiveProbability The false-positive probability the filter is sized for.
+     * @param minimumCapacity          The fewest blogs the filter is sized for.
+     */
+    public BlogIdFilterServiceImpl(BlogRepository blogRepo, PlatformTransactionManager transactionManager,
+            @Value("${blog.id-filter.enabled:false}") boolean enabled,
+            @Value("${blog.id-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${blog.id-filter.minimum-capacity:100000}") long minimumCapacity) {
+        this.blogRepo = blogRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuildFilter();
+    }
+
+    @Override
+    public boolean mightExist(Long blogId) {
+        BloomFilter current = filter;
+        if (current == null || blogId == null) {
+            bypassed.increment();
+            return true;
+        }
+        if (current.mightContain(blogId)) {
+            maybe.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    /**
+     * Adds the ID to the current filter and to the one being rebuilt, if any.
+     * The addition is remembered first, so a rebuild that started before it
+     * either replays it or is already visible to it.
+     *
+     * @param blogId The ID of the new blog.
+     */
+    @Override
+    public void addBlog(Long blogId) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        recentAdditions.addLast(new RecentAddition(blogId, now));
+        RecentAddition oldest;
+        while ((oldest = recentAdditions.peekFirst()) != null && now - oldest.addedAt() > RECENT_ADDITION_NANOS) {
+            recentAdditions.remove(oldest);
+        }
+
+        BloomFilter next = nextFilter;
+        BloomFilter current = filter;
+        if (next != null) {
+            next.put(blogId);
+        }
+        if (current != null) {
+            current.put(blogId);
+        }
+    }
+
+    @Override
+    public void recordNotFound(Long blogId) {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Builds a new filter, sized for twice the current number of blogs, from a
+     * scan of the primary key, and swaps it in. Lookups keep using the old
+     * filter meanwhile; additions go to both.
+     */
+    @Override
+    @Scheduled(cron = "${blog.id-filter.rebuild-cron:0 */15 * * * *}")
+    public synchronized void rebuildFilter() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        long capacity = Math.max(minimumCapacity, 2 * blogRepo.count());
+        BloomFilter next = new BloomFilter(capacity, falsePositiveProbability);
+        nextFilter = next;
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Long> ids = blogRepo.streamAllIds()) {
+                ids.forEach(next::put);
+            }
+        });
+        recentAdditions.forEach(addition -> next.put(addition.blogId()));
+
+        filter = next;
+        nextFilter = null;
+        LOGGER.info("Built blog ID filter of {} blog(s), {} KiB, in {} ms", next.entries(),
+                next.sizeInBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Registers the lookup and false-positive counters, the false-positive rate
+     * observed among lookups of blogs that do not exist, and the rate expected
+     * from the filter's current fill.
+     *
+     * @param registry The registry to bind the meters to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindLookups(registry, "absent", absent);
+        bindLookups(registry, "maybe", maybe);
+        bindLookups(registry, "bypassed", bypassed);
+        FunctionCounter.builder("blog.id.filter.false.positives", falsePositives, LongAdder::sum)
+                .description("Lookups the filter could not rule out that found no blog").register(registry);
+        Gauge.builder("blog.id.filter.false.positive.rate", this, BlogIdFilterServiceImpl::observedFalsePositiveRate)
+                .description("Share of lookups of missing blogs that the filter failed to rule out")
+                .register(registry);
+        Gauge.builder("blog.id.filter.expected.false.positive.rate", this,
+                service -> service.filter == null ? 0 : service.filter.expectedFalsePositiveRate())
+                .description("False-positive probability expected from the filter's fill").register(registry);
+        Gauge.builder("blog.id.filter.entries", this, service -> service.filter == null ? 0 : service.filter.entries())
+                .description("Blog IDs added to the filter since it was built").register(registry);
+    }
+
+    private static void bindLookups(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("blog.id.filter.lookups", counter, LongAdder::sum).tag("result", result)
+                .description("Blog ID lookups by filter answer").register(registry);
+    }
+
+    private double observedFalsePositiveRate() {
+        long missing = absent.sum() + falsePositives.sum();
+        return missing == 0 ? 0 : (double) falsePositives.sum() / missing;
+    }
+
+    /**
+     * A blog ID added at a given {@link System#nanoTime()}.
+     */
+    private record RecentAddition(long blogId, long addedAt) {
+    }
+
+    /**
+     * A lock-free Bloom filter of longs. Bits are set with atomic ORs, so
+     * concurrent additions and lookups need no locking. The bit positions come
+     * from two 64-bit hashes combined by double hashing.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final LongAdder entries = new LongAdder();
+
+        BloomFilter(long capacity, double falsePositiveProbability) {
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (ln2 * ln2));
+            this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64));
+            this.bitCount = words.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+        }
+
+        void put(long id) {
+            long hash1 = mix(id);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                long current = words.get(word);
+                while ((current & mask) == 0 && !words.weakCompareAndSetVolatile(word, current, current | mask)) {
+                    current = words.get(word);
+                }
+            }
+            entries.increment();
+        }
+
+        boolean mightContain(long id) {
+            long hash1 = mix(id);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long entries() {
+            return entries.sum();
+        }
+
+        long sizeInBytes() {
+            return bitCount / 8;
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * entries() / bitCount), hashCount);
+        }
+
+        /**
+         * The MurmurHash3 64-bit finalizer, which spreads sequential IDs over
+         * the whole range.
+         */
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb93fe53a87d3L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
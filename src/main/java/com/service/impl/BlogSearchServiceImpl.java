@@ -0,0 +1,314 @@
+package com.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dto.BlogDTO;
+import com.dto.PageDTO;
+import com.dto.SearchCursor;
+import com.mapper.CursorMapper;
+import com.repository.BlogRepository;
+import com.service.BlogSearchService;
+
+/**
+ * Implementation of {@link BlogSearchService} backed by an embedded, in-memory
+ * Lucene inverted index.
+ * <p>
+ * The index holds only what is needed to match and rank: the analyzed title,
+ * content and author, and the blog ID. A search ranks blog IDs in the index
+ * and then reads that page of blogs by primary key, so results always carry
+ * current counts and versions and MySQL is never scanned. The index is rebuilt
+ * from the database at startup, before the web server accepts requests, and
+ * kept current by the blog write paths once their transactions commit.
+ * </p>
+ */
+@Service
+public class BlogSearchServiceImpl implements BlogSearchService, InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlogSearchServiceImpl.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String AUTHOR = "author";
+
+    /** Field weights: a match in the title counts most, then the author, then the content. */
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 3f, AUTHOR, 2f, CONTENT, 1f);
+
+    /** Best match first, newest blog first among equal scores. */
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.LONG, true));
+
+    private final BlogRepository blogRepo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * Constructor-based dependency injection.
+     *
+     * @param blogRepo           Repository for blogs.
+     * @param transactionManager Transaction manager used for the read-only rebuild transaction.
+     * @param rebuildOnStartup   Whether the index is built from the database at startup.
+     * @throws IOException If the index cannot be opened.
+     */
+    public BlogSearchServiceImpl(BlogRepository blogRepo, PlatformTransactionManager transactionManager,
+            @Value("${blog.search.rebuild-on-startup:true}") boolean rebuildOnStartup) throws IOException {
+        this.blogRepo = blogRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (rebuildOnStartup) {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    /**
+     * Searches the index, then reads the page of blogs by primary key.
+     * One extra hit is ranked to find out whether a further page exists.
+     *
+     * @param query  The search text; supports quoted phrases, {@code -} to exclude and {@code *} as suffix.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size   The maximum number of blogs to return.
+     * @return A {@link PageDTO} of {@link BlogDTO} with the cursor of the next page.
+     * @throws com.exception.InvalidCursorException If the cursor cannot be decoded.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<BlogDTO> searchBlogs(String query, String cursor, int size) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query parsed = parser.parse(query);
+        if (parsed == null) {
+            return new PageDTO<>(List.of(), null);
+        }
+
+        SearchCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            position = CursorMapper.decodeSearch(cursor);
+        }
+
+        ScoreDoc[] hits;
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                FieldDoc after = null;
+                if (position != null) {
+                    // Equal scores and IDs only occur for the hit itself; placing the position
+                    // after the reader's last document excludes it whatever its doc ID.
+                    after = new FieldDoc(searcher.getIndexReader().maxDoc() - 1, Float.NaN,
+                            new Object[] { position.getScore(), position.getId() });
+                }
+                TopFieldDocs topDocs = searcher.searchAfter(after, parsed, size + 1, RANKING, true);
+                hits = topDocs.scoreDocs;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String nextCursor = null;
+        int count = Math.min(hits.length, size);
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) ((FieldDoc) hits[i]).fields[1]);
+        }
+        if (hits.length > size) {
+            FieldDoc last = (FieldDoc) hits[size - 1];
+            nextCursor = CursorMapper.encodeSearch((Float) last.fields[0], (Long) last.fields[1]);
+        }
+
+        if (ids.isEmpty()) {
+            return new PageDTO<>(List.of(), nextCursor);
+        }
+        Map<Long, BlogDTO> blogsById = blogRepo.findDtosByIds(ids).stream()
+                .collect(Collectors.toMap(BlogDTO::getId, Function.identity()));
+        // Blogs deleted since the index was searched are skipped.
+        List<BlogDTO> blogs = ids.stream().map(blogsById::get).filter(blog -> blog != null)
+                .collect(Collectors.toList());
+        return new PageDTO<>(blogs, nextCursor);
+    }
+
+    @Override
+    public void indexBlog(BlogDTO blog) {
+        Document document = toDocument(blog);
+        afterCommit(() -> writer.updateDocument(new Term(ID, blog.getId().toString()), document));
+    }
+
+    @Override
+    public void removeBlog(Long blogId) {
+        afterCommit(() -> writer.deleteDocuments(new Term(ID, blogId.toString())));
+    }
+
+    /**
+     * Rebuilds the whole index from one streamed, read-only pass over the blogs.
+     */
+    @Override
+    public void rebuildIndex() {
+        long started = System.nanoTime();
+        try {
+            writer.deleteAll();
+            Integer indexed = readOnlyTransaction.execute(status -> {
+                int count = 0;
+                try (Stream<BlogDTO> blogs = blogRepo.streamAllOrderById()) {
+                    for (BlogDTO blog : (Iterable<BlogDTO>) blogs::iterator) {
+                        writer.addDocument(toDocument(blog));
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            LOGGER.info("Indexed {} blog(s) for search in {} ms", indexed, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Document toDocument(BlogDTO blog) {
+        Document document = new Document();
+        document.add(new StringField(ID, blog.getId().toString(), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID, blog.getId()));
+        document.add(new TextField(TITLE, nullToEmpty(blog.getTitle()), Field.Store.NO));
+        document.add(new TextField(CONTENT, nullToEmpty(blog.getContent()), Field.Store.NO));
+        document.add(new TextField(AUTHOR, nullToEmpty(blog.getAuthor()), Field.Store.NO));
+        return document;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Runs an index change once the current transaction commits, or right away
+     * outside a transaction. The changes of one transaction are collected in a
+     * {@link PendingChanges} bound to it and applied together, with a single
+     * reopen of the searcher, so a bulk write does not reopen it per blog.
+     */
+    private void afterCommit(IndexChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(change));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    /**
+     * Applies index changes and makes them visible to searches. A failed change
+     * is logged rather than thrown, as the database write it mirrors has already
+     * succeeded; the next rebuild repairs it.
+     */
+    private void apply(List<IndexChange> changes) {
+        for (IndexChange change : changes) {
+            try {
+                change.run();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to update the search index: {}", e.getMessage());
+            }
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to refresh the search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The index changes of one transaction, bound to it as a resource keyed by
+     * this service and applied after it commits.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<IndexChange> changes = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(BlogSearchServiceImpl.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(BlogSearchServiceImpl.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            apply(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BlogSearchServiceImpl.this);
+        }
+    }
+
+    /**
+     * A change to the index that may fail with an {@link IOException}.
+     */
+    @FunctionalInterface
+    private interface IndexChange {
+        void run() throws IOException;
+    }
+}
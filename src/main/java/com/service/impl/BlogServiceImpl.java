@@ -1,81 +1,250 @@
 package com.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.config.CacheConfig;
 import com.dto.BlogDTO;
 import com.dto.BlogWithCommentDTO;
+import com.dto.BulkItemErrorDTO;
+import com.dto.BulkResultDTO;
+import com.dto.CommentDTO;
+import com.dto.PageCursor;
+import com.dto.PageDTO;
 import com.entity.BlogEntity;
 import com.exception.BlogNotFoundException;
+import com.exception.InvalidFilterException;
 import com.mapper.BlogMapper;
+import com.mapper.CommentMapper;
+import com.mapper.CursorMapper;
 import com.repository.BlogRepository;
+import com.repository.CommentRepository;
+import com.service.BlogIdFilterService;
+import com.service.BlogSearchService;
 import com.service.BlogService;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 /**
  * Implementation of {@link BlogService} to handle blog-related operations.
  * Provides CRUD functionality and fetching blogs with comments.
+ * Single-blog reads are cached and evicted by the write paths that change them.
+ * Write paths keep the full-text search index in step once they commit.
+ * Every method defines its own transaction boundary, read-only for reads, and
+ * finishes mapping to DTOs inside it, so the JDBC connection is released before
+ * the response is serialized. Reads select straight into DTOs, so they never
+ * load managed entities, take dirty-checking snapshots or flush.
+ * Lookups of a blog ID the {@link BlogIdFilterService} rules out fail before
+ * any transaction begins, so they cost no database round trip at all.
  */
 @Service
 public class BlogServiceImpl implements BlogService {
 
     private final BlogRepository blogRepo;
+    private final CommentRepository commentRepo;
+    private final BlogSearchService searchService;
+    private final BlogIdFilterService blogIdFilter;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int commentPageSize;
+    private final int bulkBatchSize;
+    private final int deleteChunkSize;
 
     /**
-     * Constructs a BlogServiceImpl with the required repository dependency.
+     * Constructs a BlogServiceImpl with the required repository dependencies.
      *
-     * @param blogRepo The {@link BlogRepository} for database operations.
+     * @param blogRepo        The {@link BlogRepository} for database operations.
+     * @param commentRepo     The {@link CommentRepository} for reading comment pages.
+     * @param searchService   The {@link BlogSearchService} kept in step with blog writes.
+     * @param blogIdFilter    The {@link BlogIdFilterService} consulted before blog lookups.
+     * @param entityManager   The entity manager used for batched bulk inserts.
+     * @param validator       The bean validator applied to each bulk item.
+     * @param transactionTemplate Template used to run each deletion chunk, and each read, in its own transaction.
+     * @param commentPageSize The number of comments returned with a blog.
+     * @param bulkBatchSize   The number of blogs inserted per JDBC batch.
+     * @param deleteChunkSize The maximum number of comments deleted per transaction.
      */
-    public BlogServiceImpl(BlogRepository blogRepo) {
+    public BlogServiceImpl(BlogRepository blogRepo, CommentRepository commentRepo, BlogSearchService searchService,
+            BlogIdFilterService blogIdFilter, EntityManager entityManager, Validator validator, TransactionTemplate transactionTemplate,
+            @Value("${blog.comments.page-size:20}") int commentPageSize,
+            @Value("${blog.bulk.batch-size:50}") int bulkBatchSize,
+            @Value("${blog.delete.chunk-size:1000}") int deleteChunkSize) {
         this.blogRepo = blogRepo;
+        this.commentRepo = commentRepo;
+        this.searchService = searchService;
+        this.blogIdFilter = blogIdFilter;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.commentPageSize = commentPageSize;
+        this.bulkBatchSize = bulkBatchSize;
+        this.deleteChunkSize = deleteChunkSize;
     }
 
     /**
-     * Retrieves all blogs.
+     * Retrieves one page of blogs, newest first, using keyset pagination,
+     * optionally filtered by author and publishing time. Every filter
+     * combination is served by a range scan of a matching index.
+     * One extra row is read to find out whether a further page exists.
      *
-     * @return A list of {@link BlogDTO} representing all blogs.
+     * @param author The exact author name, or {@code null} for any author.
+     * @param from   The earliest publishing time, inclusive, or {@code null} for no lower bound.
+     * @param to     The latest publishing time, exclusive, or {@code null} for no upper bound.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size   The maximum number of blogs to return.
+     * @return A {@link PageDTO} of {@link BlogDTO} with the cursor of the next page.
+     * @throws com.exception.InvalidCursorException If the cursor cannot be decoded.
+     * @throws InvalidFilterException If {@code from} is not before {@code to}.
      */
     @Override
-    public List<BlogDTO> getAllBlogs() {
-        
-    	List<BlogEntity> blogList = blogRepo.findAll();
-    
-    	return blogList
-                .stream()
-                .map(BlogMapper::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDTO<BlogDTO> getAllBlogs(String author, LocalDateTime from, LocalDateTime to, String cursor,
+            int size) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidFilterException("Publishing time 'from' must be before 'to'");
+        }
+        String authorFilter = (author == null || author.isBlank()) ? null : author;
+        PageCursor after = (cursor == null || cursor.isBlank()) ? null : CursorMapper.decode(cursor);
+
+        List<BlogDTO> blogList = blogRepo.findPage(authorFilter, from, to, after, size + 1);
+        return BlogMapper.convertToPage(blogList, size);
     }
 
     /**
-     * Creates a new blog.
+     * Creates a new blog. The insert is flushed before mapping, so the returned
+     * DTO carries the generated publishing time.
      *
      * @param blogDto The {@link BlogDTO} containing blog details.
      * @return The created {@link BlogDTO}.
      */
     @Override
+    @Transactional
     public BlogDTO createBlog(BlogDTO blogDto) {
-        BlogEntity blog = blogRepo.save(BlogMapper.convertToEntity(blogDto));
-        return BlogMapper.convertToDTO(blog);
+        BlogEntity blog = blogRepo.saveAndFlush(BlogMapper.convertToEntity(blogDto));
+        blogIdFilter.addBlog(blog.getId());
+        BlogDTO created = BlogMapper.convertToDTO(blog);
+        searchService.indexBlog(created);
+        return created;
+    }
+
+    /**
+     * Creates many blogs in one transaction.
+     * <p>
+     * Each item is validated on its own; invalid and {@code null} items are
+     * reported and skipped without aborting the others. Valid items are persisted and flushed every
+     * {@code blog.bulk.batch-size} rows, so Hibernate sends them as JDBC batches,
+     * and the persistence context is cleared after each flush to bound memory.
+     * </p>
+     *
+     * @param blogDtos The blogs to create.
+     * @return A {@link BulkResultDTO} with the created blogs and the rejected items.
+     */
+    @Override
+    @Transactional
+    public BulkResultDTO<BlogDTO> createBlogs(List<BlogDTO> blogDtos) {
+        List<BlogEntity> pending = new ArrayList<>(bulkBatchSize);
+        List<BlogDTO> created = new ArrayList<>(blogDtos.size());
+        List<BulkItemErrorDTO> failures = new ArrayList<>();
+
+        for (int index = 0; index < blogDtos.size(); index++) {
+            BlogDTO blogDto = blogDtos.get(index);
+            if (blogDto == null) {
+                failures.add(new BulkItemErrorDTO(index, Map.of("item", "must not be null")));
+                continue;
+            }
+            Set<ConstraintViolation<BlogDTO>> violations = validator.validate(blogDto);
+            if (!violations.isEmpty()) {
+                Map<String, String> errors = new LinkedHashMap<>();
+                violations.forEach(v -> errors.put(v.getPropertyPath().toString(), v.getMessage()));
+                failures.add(new BulkItemErrorDTO(index, errors));
+                continue;
+            }
+
+            BlogEntity blog = BlogMapper.convertToEntity(blogDto);
+            blog.setId(null);
+            entityManager.persist(blog);
+            pending.add(blog);
+
+            if (pending.size() == bulkBatchSize) {
+                flushBatch(pending, created);
+            }
+        }
+        flushBatch(pending, created);
+
+        return new BulkResultDTO<>(created, failures);
+    }
+
+    /**
+     * Sends the pending inserts as one JDBC batch and detaches them.
+     */
+    private void flushBatch(List<BlogEntity> pending, List<BlogDTO> created) {
+        entityManager.flush();
+        pending.forEach(blog -> {
+            blogIdFilter.addBlog(blog.getId());
+            BlogDTO blogDto = BlogMapper.convertToDTO(blog);
+            searchService.indexBlog(blogDto);
+            created.add(blogDto);
+        });
+        pending.clear();
+        entityManager.clear();
     }
 
     /**
-     * Retrieves a blog by its ID.
+     * Retrieves a blog by its ID. Results are cached per blog ID.
+     * The read-only transaction is only opened once the ID filter allows that
+     * the blog might exist.
      *
      * @param blogId The ID of the blog.
      * @return The corresponding {@link BlogDTO}.
      * @throws BlogNotFoundException If no blog is found with the given ID.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.BLOGS, key = "#blogId")
     public BlogDTO getBlogById(Long blogId) {
-        BlogEntity blog = blogRepo.getBlogById(blogId)
-                .orElseThrow(() -> new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist"));
-        return BlogMapper.convertToDTO(blog);
+        requireMightExist(blogId);
+        return readOnlyTransaction.execute(status -> blogRepo.findDtoById(blogId))
+                .orElseThrow(() -> blogNotFound(blogId));
     }
 
     /**
-     * Updates an existing blog.
+     * Retrieves only the current version of a blog with a single-column query.
+     * Not cached, so conditional requests always compare against the database.
+     *
+     * @param blogId The ID of the blog.
+     * @return The version of the blog.
+     * @throws BlogNotFoundException If no blog is found with the given ID.
+     */
+    @Override
+    public long getBlogVersion(Long blogId) {
+        requireMightExist(blogId);
+        return readOnlyTransaction.execute(status -> blogRepo.findVersionById(blogId))
+                .orElseThrow(() -> blogNotFound(blogId));
+    }
+
+    /**
+     * Updates an existing blog in one transaction, opened once the ID filter
+     * allows that the blog might exist. The change is flushed before mapping,
+     * so the returned DTO carries the incremented version.
      *
      * @param id      The ID of the blog to update.
      * @param blogDto The {@link BlogDTO} containing updated details.
@@ -83,44 +252,106 @@ public class BlogServiceImpl implements BlogService {
      * @throws BlogNotFoundException If no blog is found with the given ID.
      */
     @Override
+    @Caching(evict = { @CacheEvict(cacheNames = CacheConfig.BLOGS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BLOG_WITH_COMMENTS, key = "#id") })
     public BlogDTO updateBlog(Long id, BlogDTO blogDto) {
-        BlogEntity blog = blogRepo.getBlogById(id)
-                .orElseThrow(() -> new BlogNotFoundException("No Blog Found with ID: " + id));
+        if (!blogIdFilter.mightExist(id)) {
+            throw new BlogNotFoundException("No Blog Found with ID: " + id);
+        }
+        return transactionTemplate.execute(status -> {
+            BlogEntity blog = blogRepo.getBlogById(id).orElseThrow(() -> {
+                blogIdFilter.recordNotFound(id);
+                return new BlogNotFoundException("No Blog Found with ID: " + id);
+            });
 
-        blog.setTitle(blogDto.getTitle());
-        blog.setContent(blogDto.getContent());
-        blog.setAuthor(blogDto.getAuthor());
-        blogRepo.save(blog);
+            blog.setTitle(blogDto.getTitle());
+            blog.setContent(blogDto.getContent());
+            blog.setAuthor(blogDto.getAuthor());
+            blogRepo.saveAndFlush(blog);
 
-        return BlogMapper.convertToDTO(blog);
+            BlogDTO updated = BlogMapper.convertToDTO(blog);
+            searchService.indexBlog(updated);
+            return updated;
+        });
     }
 
     /**
-     * Deletes a blog by its ID.
+     * Deletes a blog by its ID together with all of its comments.
+     * <p>
+     * Nothing is loaded into memory. Comments are removed with set-based DELETE
+     * statements of at most {@code blog.delete.chunk-size} rows, each committed on
+     * its own so locks and undo log stay small however many comments the blog has.
+     * The last transaction locks the blog row, removes any comment that arrived
+     * meanwhile and deletes the blog. The method itself is deliberately not
+     * {@code @Transactional}: each chunk must commit on its own.
+     * </p>
      *
      * @param id The ID of the blog to delete.
      * @throws BlogNotFoundException If no blog is found with the given ID.
      */
     @Override
+    @Caching(evict = { @CacheEvict(cacheNames = CacheConfig.BLOGS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BLOG_WITH_COMMENTS, key = "#id") })
     public void deleteBlog(Long id) {
-        BlogEntity blog = blogRepo.getBlogById(id)
-                .orElseThrow(() -> new BlogNotFoundException("No Blog Found with ID: " + id));
+        if (!blogIdFilter.mightExist(id)) {
+            throw new BlogNotFoundException("No Blog Found with ID: " + id);
+        }
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> commentRepo.deleteChunkByBlogId(id, deleteChunkSize));
+        } while (deleted == deleteChunkSize);
 
-        blogRepo.delete(blog);
+        transactionTemplate.executeWithoutResult(status -> {
+            blogRepo.lockById(id).orElseThrow(() -> {
+                blogIdFilter.recordNotFound(id);
+                return new BlogNotFoundException("No Blog Found with ID: " + id);
+            });
+            commentRepo.deleteAllByBlogId(id);
+            blogRepo.deleteBlogById(id);
+        });
+        searchService.removeBlog(id);
     }
 
     /**
-     * Fetches a blog along with its associated comments.
+     * Fetches a blog along with the first page of its comments.
+     * The blog row and the comment page are read by separate queries, so the
+     * blog columns are not repeated for every comment. Results are cached per
+     * blog ID until the blog or its comments change.
      *
      * @param blogId The ID of the blog.
      * @return The {@link BlogWithCommentDTO} containing blog details and comments.
      * @throws BlogNotFoundException If no blog is found with the given ID.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.BLOG_WITH_COMMENTS, key = "#blogId")
     public BlogWithCommentDTO fetchBlogWithComment(Long blogId) {
-        BlogEntity blog = blogRepo.findByIdWithComments(blogId)
-                .orElseThrow(() -> new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist"));
+        requireMightExist(blogId);
+        return readOnlyTransaction.execute(status -> {
+            BlogDTO blog = blogRepo.findDtoById(blogId).orElseThrow(() -> blogNotFound(blogId));
 
-        return BlogMapper.convertToBlogWithCommentDTO(blog);
+            PageDTO<CommentDTO> comments = CommentMapper.convertToPage(
+                    commentRepo.findFirstPageByBlogId(blogId, PageRequest.of(0, commentPageSize + 1)),
+                    commentPageSize);
+            return BlogMapper.convertToBlogWithCommentDTO(blog, comments);
+        });
+    }
+
+    /**
+     * Fails fast for a blog ID the filter rules out, before any transaction
+     * takes a connection from the pool.
+     */
+    private void requireMightExist(Long blogId) {
+        if (!blogIdFilter.mightExist(blogId)) {
+            throw new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist");
+        }
+    }
+
+    /**
+     * Builds the exception for a blog the filter let through but the database
+     * did not find, counting it as a false positive of the filter.
+     */
+    private BlogNotFoundException blogNotFound(Long blogId) {
+        blogIdFilter.recordNotFound(blogId);
+        return new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist");
     }
 }
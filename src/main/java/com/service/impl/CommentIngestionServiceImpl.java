@@ -0,0 +1,276 @@
+package com.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import com.dto.CommentDTO;
+import com.dto.CommentReceiptDTO;
+import com.dto.IngestionStatsDTO;
+import com.exception.IngestionQueueFullException;
+import com.service.BlogService;
+import com.service.CommentIngestionService;
+import com.service.CommentService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Implementation of {@link CommentIngestionService} backed by a bounded
+ * in-memory queue and a single background worker.
+ * <p>
+ * Submitted comments are checked against the (cached) blog lookup, queued and
+ * acknowledged immediately. The worker takes up to {@code batch-size} comments
+ * at a time and persists them with {@link CommentService#createComments(List)}
+ * in one transaction. If a batch fails, e.g. because a blog was deleted in the
+ * meantime, its comments are retried one by one so only the bad ones are
+ * dropped. A full queue rejects new comments instead of blocking callers.
+ * </p>
+ * <p>
+ * On shutdown the queue stops accepting comments and the worker drains what is
+ * left before the application context closes the datasource. Comments still
+ * queued when the process is killed are lost; this is the trade-off of the
+ * write-behind mode, which is therefore opt-in.
+ * </p>
+ * <p>
+ * The counters behind {@link #getStats()} are also exported as
+ * {@code blog.comments.ingestion.*} meters.
+ * </p>
+ */
+@Service
+public class CommentIngestionServiceImpl implements CommentIngestionService, SmartLifecycle, MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CommentIngestionServiceImpl.class);
+
+	private final CommentService commentService;
+	private final BlogService blogService;
+	private final boolean enabled;
+	private final int batchSize;
+	private final long drainTimeoutMillis;
+	private final boolean virtualThreads;
+	private final BlockingQueue<PendingComment> queue;
+
+	private final AtomicLong accepted = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong persisted = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong flushCount = new AtomicLong();
+	private final AtomicLong flushNanosTotal = new AtomicLong();
+	private final AtomicLong flushNanosMax = new AtomicLong();
+
+	private volatile boolean running;
+	private Thread worker;
+
+	/**
+	 * Constructor-based dependency injection.
+	 *
+	 * @param commentService     Service that persists the batches.
+	 * @param blogService        Service used for cached blog existence checks.
+	 * @param enabled            Whether asynchronous ingestion is enabled.
+	 * @param capacity           Maximum number of queued comments.
+	 * @param batchSize          Maximum number of comments persisted per batch.
+	 * @param drainTimeoutMillis Maximum time to wait for the queue to drain on shutdown.
+	 * @param virtualThreads     Whether the worker runs on a virtual thread, like request handling.
+	 */
+	public CommentIngestionServiceImpl(CommentService commentService, BlogService blogService,
+			@Value("${blog.comments.async.enabled:false}") boolean enabled,
+			@Value("${blog.comments.async.queue-capacity:10000}") int capacity,
+			@Value("${blog.comments.async.batch-size:200}") int batchSize,
+			@Value("${blog.comments.async.drain-timeout-millis:30000}") long drainTimeoutMillis,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.commentService = commentService;
+		this.blogService = blogService;
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+		this.drainTimeoutMillis = drainTimeoutMillis;
+		this.virtualThreads = virtualThreads;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Queues a comment after checking that its blog exists.
+	 *
+	 * @param blogId     The ID of the blog the comment belongs to.
+	 * @param commentDto The comment details.
+	 * @return A {@link CommentReceiptDTO} carrying the tracking ID.
+	 * @throws com.exception.BlogNotFoundException If the blog does not exist.
+	 * @throws IngestionQueueFullException         If the queue is full or shutting down.
+	 */
+	@Override
+	public CommentReceiptDTO submitComment(Long blogId, CommentDTO commentDto) {
+		blogService.getBlogById(blogId);
+
+		CommentDTO comment = new CommentDTO();
+		comment.setComment(commentDto.getComment());
+		comment.setBlogId(blogId);
+		String trackingId = UUID.randomUUID().toString();
+
+		if (!running || !queue.offer(new PendingComment(trackingId, comment))) {
+			rejected.incrementAndGet();
+			throw new IngestionQueueFullException("Comment ingestion is at capacity, please retry later");
+		}
+		accepted.incrementAndGet();
+		return new CommentReceiptDTO(trackingId, blogId);
+	}
+
+	@Override
+	public IngestionStatsDTO getStats() {
+		IngestionStatsDTO stats = new IngestionStatsDTO();
+		long flushes = flushCount.get();
+		stats.setEnabled(enabled);
+		stats.setQueueDepth(queue.size());
+		stats.setQueueCapacity(queue.size() + queue.remainingCapacity());
+		stats.setAccepted(accepted.get());
+		stats.setRejected(rejected.get());
+		stats.setPersisted(persisted.get());
+		stats.setFailed(failed.get());
+		stats.setFlushCount(flushes);
+		stats.setAverageFlushMillis(flushes == 0 ? 0 : flushNanosTotal.get() / 1e6 / flushes);
+		stats.setMaxFlushMillis(flushNanosMax.get() / 1e6);
+		return stats;
+	}
+
+	/**
+	 * Registers the queue gauges, the per-outcome comment counters and the
+	 * flush timer. The meters read the same counters as {@link #getStats()}, so
+	 * the hot path does not record anything twice.
+	 *
+	 * @param registry The registry to bind the meters to.
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("blog.comments.ingestion.queue.depth", queue, BlockingQueue::size)
+				.description("Comments waiting in the ingestion queue").register(registry);
+		Gauge.builder("blog.comments.ingestion.queue.capacity", queue, q -> q.size() + q.remainingCapacity())
+				.description("Maximum number of comments the ingestion queue can hold").register(registry);
+		bindOutcome(registry, "accepted", accepted);
+		bindOutcome(registry, "rejected", rejected);
+		bindOutcome(registry, "persisted", persisted);
+		bindOutcome(registry, "failed", failed);
+		FunctionTimer.builder("blog.comments.ingestion.flush", this, service -> service.flushCount.get(),
+				service -> service.flushNanosTotal.get(), TimeUnit.NANOSECONDS)
+				.description("Batch flushes of the ingestion worker").register(registry);
+	}
+
+	private static void bindOutcome(MeterRegistry registry, String outcome, AtomicLong counter) {
+		FunctionCounter.builder("blog.comments.ingestion.comments", counter, AtomicLong::get)
+				.tag("outcome", outcome).description("Comments by ingestion outcome").register(registry);
+	}
+
+	/**
+	 * Starts the background worker if asynchronous ingestion is enabled.
+	 */
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform();
+		worker = builder.name("comment-ingestion").start(this::drainLoop);
+	}
+
+	/**
+	 * Stops accepting comments and waits for the worker to flush the queue.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		if (worker == null) {
+			return;
+		}
+		try {
+			worker.join(drainTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!queue.isEmpty()) {
+			LOGGER.warn("Comment ingestion stopped with {} comment(s) still queued", queue.size());
+		}
+		worker = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Start before and stop after the web server, whose lifecycle phase is
+	 * {@code DEFAULT_PHASE - 2048}, so no request can queue a comment after the
+	 * final drain.
+	 */
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	private void drainLoop() {
+		List<PendingComment> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingComment first = queue.poll(200, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingComment> batch) {
+		long start = System.nanoTime();
+		try {
+			commentService.createComments(batch.stream().map(PendingComment::comment).toList());
+			persisted.addAndGet(batch.size());
+		} catch (RuntimeException batchFailure) {
+			LOGGER.warn("Batch of {} comment(s) failed, retrying one by one: {}", batch.size(),
+					batchFailure.getMessage());
+			for (PendingComment pending : batch) {
+				try {
+					commentService.createComment(pending.comment().getBlogId(), pending.comment());
+					persisted.incrementAndGet();
+				} catch (RuntimeException e) {
+					failed.incrementAndGet();
+					LOGGER.warn("Dropped comment {} for blog {}: {}", pending.trackingId(),
+							pending.comment().getBlogId(), e.getMessage());
+				}
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		flushCount.incrementAndGet();
+		flushNanosTotal.addAndGet(elapsed);
+		flushNanosMax.accumulateAndGet(elapsed, Math::max);
+	}
+
+	/**
+	 * A queued comment together with the tracking ID handed to the client.
+	 */
+	private record PendingComment(String trackingId, CommentDTO comment) {
+	}
+}
@@ -1,41 +1,92 @@
 package com.service.impl;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.config.CacheConfig;
 import com.dto.CommentDTO;
-import com.entity.BlogEntity;
+import com.dto.PageCursor;
+import com.dto.PageDTO;
 import com.entity.CommentEntity;
 import com.exception.BlogNotFoundException;
 import com.exception.CommentNotFoundException;
 import com.mapper.CommentMapper;
+import com.mapper.CursorMapper;
 import com.repository.BlogRepository;
 import com.repository.CommentRepository;
+import com.service.BlogIdFilterService;
+import com.service.BlogService;
 import com.service.CommentService;
 
 /**
  * Implementation of {@link CommentService} for managing comments on blogs.
+ * Comments are read and written without loading their blog, and reads select
+ * straight into {@link CommentDTO} inside read-only transactions. Where no other
+ * statement reveals whether the blog exists, the check goes through the cached
+ * {@link BlogService#getBlogById(Long)}. A blog ID the
+ * {@link BlogIdFilterService} rules out is rejected before any transaction
+ * starts, so the single-comment operations run their transactions
+ * programmatically, after that check.
+ * Adding or removing a comment updates the blog's comment count, last-comment
+ * time and version with one atomic UPDATE in the same transaction, so the
+ * denormalized columns and the blog's ETag change with its comments.
  */
 @Service
 public class CommentServiceImpl implements CommentService {
 
 	private final CommentRepository commentRepo;
 	private final BlogRepository blogRepo;
+	private final BlogService blogService;
+	private final BlogIdFilterService blogIdFilter;
+	private final CacheManager cacheManager;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransaction;
 
 	/**
 	 * Constructor-based dependency injection.
 	 *
-	 * @param commentRepo Repository for comments.
-	 * @param blogRepo    Repository for blogs.
+	 * @param commentRepo  Repository for comments.
+	 * @param blogRepo     Repository for blogs.
+	 * @param blogService  Service used for cached blog existence checks.
+	 * @param blogIdFilter Filter that rules out blogs that do not exist.
+	 * @param cacheManager        Cache manager used to evict blogs touched by batch inserts.
+	 * @param transactionTemplate Template of the single-comment transactions.
 	 */
 	@Autowired
-	public CommentServiceImpl(CommentRepository commentRepo, BlogRepository blogRepo) {
+	public CommentServiceImpl(CommentRepository commentRepo, BlogRepository blogRepo, BlogService blogService,
+			BlogIdFilterService blogIdFilter, CacheManager cacheManager, TransactionTemplate transactionTemplate) {
 		this.commentRepo = commentRepo;
 		this.blogRepo = blogRepo;
+		this.blogService = blogService;
+		this.blogIdFilter = blogIdFilter;
+		this.cacheManager = cacheManager;
+		this.transactionTemplate = transactionTemplate;
+		this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		this.readOnlyTransaction.setReadOnly(true);
 	}
 
 	/**
-	 * Creates a new comment for a given blog.
+	 * Creates a new comment for a given blog without reading the blog. The
+	 * counter UPDATE runs first: it locks the blog row, and zero updated rows
+	 * means the blog does not exist. The comment is then attached through a
+	 * reference proxy and inserted with the same creation time that was
+	 * recorded as the blog's last-comment time.
 	 *
 	 * @param blogId     The ID of the blog to associate the comment with.
 	 * @param commentDto The comment details.
@@ -43,20 +94,73 @@ public class CommentServiceImpl implements CommentService {
 	 * @throws BlogNotFoundException If the blog does not exist.
 	 */
 	@Override
+	@Caching(evict = { @CacheEvict(cacheNames = CacheConfig.BLOGS, key = "#blogId"),
+			@CacheEvict(cacheNames = CacheConfig.BLOG_WITH_COMMENTS, key = "#blogId") })
 	public CommentDTO createComment(Long blogId, CommentDTO commentDto) {
-		BlogEntity blog = blogRepo.getBlogById(blogId)
-				.orElseThrow(() -> new BlogNotFoundException("Cannot add comment: No blog exists with ID " + blogId));
+		requireMightExist(blogId);
+		return transactionTemplate.execute(status -> {
+			LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+			if (blogRepo.incrementCommentCount(blogId, 1, createdAt) == 0) {
+				blogIdFilter.recordNotFound(blogId);
+				throw new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist");
+			}
+
+			CommentEntity comment = CommentMapper.convertToEntity(commentDto);
+			comment.setBlog(blogRepo.getReferenceById(blogId));
+			comment.setCreatedAt(createdAt);
+			commentRepo.save(comment);
 
-		CommentEntity comment = CommentMapper.convertToEntity(commentDto);
-		comment.setBlog(blog);
+			return CommentMapper.convertToDTO(comment);
+		});
+	}
+
+	/**
+	 * Creates many comments in one transaction. The inserts go out as JDBC
+	 * batches and each affected blog gets a single counter UPDATE for all of its
+	 * new comments. The affected blogs are evicted from the caches once the
+	 * transaction commits, so a concurrent read cannot cache the old counters
+	 * again in between. Blog existence is not checked here; a comment whose
+	 * blog no longer exists fails the whole batch on the foreign key.
+	 *
+	 * @param commentDtos The comments to create; each must carry its blog ID.
+	 */
+	@Override
+	@Transactional
+	public void createComments(List<CommentDTO> commentDtos) {
+		List<CommentEntity> comments = new ArrayList<>(commentDtos.size());
+		for (CommentDTO commentDto : commentDtos) {
+			CommentEntity comment = CommentMapper.convertToEntity(commentDto);
+			comment.setBlog(blogRepo.getReferenceById(commentDto.getBlogId()));
+			comments.add(comment);
+		}
+		commentRepo.saveAllAndFlush(comments);
 
-		commentRepo.save(comment);
+		Map<Long, Long> countByBlog = new HashMap<>();
+		Map<Long, LocalDateTime> latestByBlog = new HashMap<>();
+		for (CommentEntity comment : comments) {
+			Long blogId = comment.getBlogId();
+			countByBlog.merge(blogId, 1L, Long::sum);
+			latestByBlog.merge(blogId, comment.getCreatedAt(), (a, b) -> a.isAfter(b) ? a : b);
+		}
 
-		return CommentMapper.convertToDTO(comment);
+		countByBlog.forEach((blogId, count) -> blogRepo.incrementCommentCount(blogId, count, latestByBlog.get(blogId)));
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				for (Long blogId : countByBlog.keySet()) {
+					cacheManager.getCache(CacheConfig.BLOGS).evict(blogId);
+					cacheManager.getCache(CacheConfig.BLOG_WITH_COMMENTS).evict(blogId);
+				}
+			}
+		});
 	}
 
 	/**
-	 * Fetches a specific comment for a given blog.
+	 * Fetches a specific comment for a given blog with a single query scoped to
+	 * the blog, so a comment of another blog is never returned. The blog's
+	 * existence is only checked when the comment is not found, to tell the two
+	 * 404 cases apart.
 	 *
 	 * @param blogId    The ID of the blog.
 	 * @param commentId The ID of the comment.
@@ -67,28 +171,88 @@ public class CommentServiceImpl implements CommentService {
 	 */
 	@Override
 	public CommentDTO fetchComment(Long blogId, Long commentId) {
-		BlogEntity blog = blogRepo.getBlogById(blogId)
-				.orElseThrow(() -> new BlogNotFoundException("No blog exists with ID " + blogId));
+		requireMightExist(blogId);
+		return readOnlyTransaction.execute(status -> commentRepo.findByIdAndBlogId(commentId, blogId))
+				.orElseThrow(() -> commentNotFound(blogId, commentId));
+	}
 
-		CommentEntity comment = commentRepo.fetchCommentById(commentId).orElseThrow(() -> new CommentNotFoundException(
-				"No comment found with ID " + commentId + " for blog: " + blog.getTitle()));
+	/**
+	 * Retrieves one page of comments of a blog, oldest first, using keyset
+	 * pagination. The blog's existence is only checked when the page comes back
+	 * empty, so non-empty pages cost a single query.
+	 *
+	 * @param blogId The ID of the blog.
+	 * @param cursor The cursor returned with the previous page, or {@code null}
+	 *               for the first page.
+	 * @param size   The maximum number of comments to return.
+	 * @return A {@link PageDTO} of {@link CommentDTO} with the cursor of the next
+	 *         page.
+	 * @throws BlogNotFoundException If the blog does not exist.
+	 */
+	@Override
+	public PageDTO<CommentDTO> getComments(Long blogId, String cursor, int size) {
+		requireMightExist(blogId);
+		Pageable limit = PageRequest.of(0, size + 1);
+		PageCursor after = cursor == null || cursor.isBlank() ? null : CursorMapper.decode(cursor);
+		List<CommentDTO> commentList = readOnlyTransaction.execute(status -> after == null
+				? commentRepo.findFirstPageByBlogId(blogId, limit)
+				: commentRepo.findPageByBlogIdAfter(blogId, after.getTimestamp(), after.getId(), limit));
+
+		if (commentList.isEmpty()) {
+			blogService.getBlogById(blogId);
+		}
 
-		return CommentMapper.convertToDTO(comment);
+		return CommentMapper.convertToPage(commentList, size);
 	}
 
+	/**
+	 * Deletes a specific comment of a blog with a single DELETE scoped to the
+	 * blog; the affected-row count tells whether it existed. On success the
+	 * blog's counters are updated in the same transaction.
+	 *
+	 * @param commentId The ID of the comment.
+	 * @param blogId    The ID of the blog.
+	 * @return {@code true} once the comment is deleted.
+	 * @throws BlogNotFoundException    If the blog does not exist.
+	 * @throws CommentNotFoundException If the comment is not found for the given
+	 *                                  blog.
+	 */
 	@Override
+	@Caching(evict = { @CacheEvict(cacheNames = CacheConfig.BLOGS, key = "#blogId"),
+			@CacheEvict(cacheNames = CacheConfig.BLOG_WITH_COMMENTS, key = "#blogId") })
 	public Boolean deleteComment(Long commentId, Long blogId) {
+		requireMightExist(blogId);
+		boolean deleted = transactionTemplate.execute(status -> {
+			if (commentRepo.deleteByIdAndBlogId(commentId, blogId) == 0) {
+				return false;
+			}
+			blogRepo.decrementCommentCount(blogId);
+			return true;
+		});
+		if (!deleted) {
+			throw commentNotFound(blogId, commentId);
+		}
 
-		blogRepo.getBlogById(blogId).orElseThrow(() -> new BlogNotFoundException("No blog exists with ID " + blogId));
-
-		CommentEntity comment = commentRepo.fetchCommentById(commentId)
-				.orElseThrow(() -> new CommentNotFoundException("No comment found with ID " + commentId));
-		commentRepo.delete(comment);
+		return true;
+	}
 
-		if (commentRepo.existsById(commentId)) {
-			return false;
+	/**
+	 * Rejects a blog ID the filter rules out before any transaction takes a
+	 * connection from the pool.
+	 */
+	private void requireMightExist(Long blogId) {
+		if (!blogIdFilter.mightExist(blogId)) {
+			throw new BlogNotFoundException("Blog with ID: " + blogId + " doesn't exist");
 		}
+	}
 
-		return true;
+	/**
+	 * Builds the exception for a comment missing from a blog. Only reached on a
+	 * miss, it checks whether the blog itself exists and throws
+	 * {@link BlogNotFoundException} if it does not.
+	 */
+	private CommentNotFoundException commentNotFound(Long blogId, Long commentId) {
+		blogService.getBlogById(blogId);
+		return new CommentNotFoundException("No comment found with ID " + commentId + " for blog: " + blogId);
 	}
 }
@@ -0,0 +1,191 @@
+package com.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Routes transactions between two embedded H2 databases, a primary and a
+ * replica, each seeded with a row naming itself, the way
+ * {@link ReplicaRoutingConfig} wires them: a {@link LazyConnectionDataSourceProxy}
+ * whose read-only datasource is the {@link ReplicaRoutingDataSource}.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private static final long WINDOW_MILLIS = 60_000;
+
+	private FailingDataSource replica;
+	private ReplicaRoutingDataSource readOnly;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate writeTransaction;
+	private TransactionTemplate readOnlyTransaction;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = seeded("primary");
+		replica = new FailingDataSource(seeded("replica"));
+		readOnly = new ReplicaRoutingDataSource(primary,
+				List.of(new ReplicaRoutingDataSource.Replica("replica-1", replica)));
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(readOnly);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		writeTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	@Test
+	void readOnlyTransactionGoesToReplica() {
+		assertThat(readDatabaseName()).isEqualTo("replica");
+	}
+
+	@Test
+	void writeTransactionStaysOnPrimary() {
+		String name = writeTransaction.execute(status -> databaseName());
+
+		assertThat(name).isEqualTo("primary");
+	}
+
+	@Test
+	void readsOfWriteRequestStayOnPrimary() throws Exception {
+		assertThat(readWithinRequest(new MockHttpServletRequest("POST", "/api/blogs"))).isEqualTo("primary");
+	}
+
+	@Test
+	void readsWithinReadYourWritesWindowStayOnPrimary() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs/1");
+		request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+				Long.toString(System.currentTimeMillis() + WINDOW_MILLIS / 2)));
+
+		assertThat(readWithinRequest(request)).isEqualTo("primary");
+	}
+
+	@Test
+	void readsWithExpiredCookieGoToReplica() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs/1");
+		request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+				Long.toString(System.currentTimeMillis() - 1)));
+
+		assertThat(readWithinRequest(request)).isEqualTo("replica");
+	}
+
+	@Test
+	void replicaMarkedDownFallsBackToPrimary() {
+		replica.failing = true;
+		readOnly.checkReplicas();
+		replica.failing = false;
+
+		assertThat(readDatabaseName()).isEqualTo("primary");
+
+		readOnly.checkReplicas();
+
+		assertThat(readDatabaseName()).isEqualTo("replica");
+	}
+
+	@Test
+	void replicaFailingToConnectFallsBackToPrimary() {
+		replica.failing = true;
+
+		assertThat(readDatabaseName()).isEqualTo("primary");
+	}
+
+	@Test
+	void explicitCredentialsAreRoutedLikeTheConfiguredOnes() throws SQLException {
+		try (Connection connection = readOnly.getConnection("sa", "")) {
+			assertThat(databaseName(connection)).isEqualTo("replica");
+		}
+
+		replica.failing = true;
+		try (Connection connection = readOnly.getConnection("sa", "")) {
+			assertThat(databaseName(connection)).isEqualTo("primary");
+		}
+	}
+
+	private String readDatabaseName() {
+		return readOnlyTransaction.execute(status -> databaseName());
+	}
+
+	private String databaseName() {
+		return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+	}
+
+	private static String databaseName(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT name FROM origin")) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	/**
+	 * Runs a read-only transaction behind the {@link ReadYourWritesFilter}.
+	 */
+	private String readWithinRequest(MockHttpServletRequest request) throws Exception {
+		AtomicReference<String> name = new AtomicReference<>();
+		new ReadYourWritesFilter(WINDOW_MILLIS).doFilter(request, new MockHttpServletResponse(),
+				(req, res) -> name.set(readDatabaseName()));
+		return name.get();
+	}
+
+	/**
+	 * @return A fresh in-memory database with one {@code origin} row holding its name.
+	 */
+	private static DataSource seeded(String name) {
+		DataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE origin (name VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO origin VALUES (?)", name);
+		return dataSource;
+	}
+
+	/**
+	 * A replica that refuses connections while {@link #failing} is set.
+	 */
+	private static class FailingDataSource extends DelegatingDataSource {
+
+		volatile boolean failing;
+
+		FailingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (failing) {
+				throw new SQLException("Connection refused");
+			}
+			return super.getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			if (failing) {
+				throw new SQLException("Connection refused");
+			}
+			return super.getConnection(username, password);
+		}
+	}
+}
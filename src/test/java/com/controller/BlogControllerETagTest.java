@@ -0,0 +1,99 @@
+package com.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.config.BinaryFormatConfig;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks that the ETags of {@link BlogController} name the format the body is
+ * actually written in, and that conditional requests only match the ETag of
+ * the format being asked for.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@AutoConfigureMockMvc
+class BlogControllerETagTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private long blogId;
+	private long version;
+
+	@BeforeEach
+	void createBlog() throws Exception {
+		String body = mockMvc.perform(post("/api/blogs").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"title\":\"Tagged blog\",\"content\":\"Content of the tagged blog\",\"author\":\"Tester\"}"))
+				.andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+		blogId = JsonPath.<Number>read(body, "$.id").longValue();
+		version = JsonPath.<Number>read(body, "$.version").longValue();
+	}
+
+	@Test
+	void tagsJsonByDefault() throws Exception {
+		mockMvc.perform(get("/api/blogs/{id}", blogId))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + version + "\""))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+	}
+
+	@Test
+	void tagsEachBinaryFormatSeparately() throws Exception {
+		mockMvc.perform(get("/api/blogs/{id}", blogId).accept(BinaryFormatConfig.APPLICATION_SMILE))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(BinaryFormatConfig.APPLICATION_SMILE))
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + version + "-smile\""));
+		mockMvc.perform(get("/api/blogs/{id}/comment", blogId).accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + version + "-cbor\""));
+	}
+
+	@Test
+	void followsQualityValues() throws Exception {
+		mockMvc.perform(get("/api/blogs/{id}", blogId)
+				.header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + version + "-cbor\""));
+	}
+
+	@Test
+	void answersNotModifiedForETagOfSameFormat() throws Exception {
+		mockMvc.perform(get("/api/blogs/{id}", blogId).accept(BinaryFormatConfig.APPLICATION_SMILE)
+				.header(HttpHeaders.IF_NONE_MATCH, "W/\"" + version + "-smile\""))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + version + "-smile\""));
+	}
+
+	@Test
+	void sendsBodyForETagOfOtherFormat() throws Exception {
+		mockMvc.perform(get("/api/blogs/{id}", blogId).accept(BinaryFormatConfig.APPLICATION_SMILE)
+				.header(HttpHeaders.IF_NONE_MATCH, "W/\"" + version + "\""))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(BinaryFormatConfig.APPLICATION_SMILE))
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"" + version + "-smile\""));
+	}
+
+	@Test
+	void rejectsUnsupportedFormat() throws Exception {
+		mockMvc.perform(get("/api/blogs/{id}", blogId).accept(MediaType.TEXT_HTML))
+				.andExpect(status().isNotAcceptable());
+	}
+}
@@ -0,0 +1,116 @@
+package com.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.config.QueryBudget;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Holds every {@link QueryBudget} of {@link BlogController} against the
+ * statements its endpoint actually runs.
+ * <p>
+ * Each annotated endpoint is called once on the embedded database of the
+ * "local" profile, with every cache cleared first since budgets are those of a
+ * cache miss, and its {@code X-Query-Count} must not exceed the budget. An
+ * annotated endpoint without a request here fails the test, so new budgets
+ * cannot go unchecked.
+ * </p>
+ */
+@SpringBootTest(properties = "blog.query-stats.enabled=true")
+@ActiveProfiles("local")
+@AutoConfigureMockMvc
+class BlogControllerQueryBudgetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	void staysWithinQueryBudgets() throws Exception {
+		long blogId = createBlog("Budgeted blog");
+		long commentId = addComment(blogId, "Budgeted comment");
+		long deletedCommentId = addComment(blogId, "Deleted comment");
+
+		Map<String, RequestBuilder> requests = new LinkedHashMap<>();
+		requests.put("getAllBlogs", get("/api/blogs"));
+		requests.put("searchBlogs", get("/api/blogs/search").param("q", "Budgeted"));
+		requests.put("addBlog", post("/api/blogs").contentType(MediaType.APPLICATION_JSON).content(blogJson("Added blog")));
+		requests.put("getBlogById", get("/api/blogs/{id}", blogId));
+		requests.put("updateBlog", put("/api/blogs/{id}", blogId).contentType(MediaType.APPLICATION_JSON)
+				.content(blogJson("Updated blog")));
+		requests.put("fetchBlogWithComment", get("/api/blogs/{id}/comment", blogId));
+		requests.put("getComments", get("/api/blogs/{id}/comments", blogId));
+		requests.put("addComment", post("/api/blogs/{id}/comment", blogId).contentType(MediaType.APPLICATION_JSON)
+				.content(commentJson("Added comment")));
+		requests.put("getComment", get("/api/blogs/{blogId}/comment/{commentId}", blogId, commentId));
+		requests.put("deleteComment", delete("/api/blogs/{blogId}/comment/{commentId}", blogId, deletedCommentId));
+
+		Map<String, Integer> budgets = Arrays.stream(BlogController.class.getDeclaredMethods())
+				.filter(method -> method.isAnnotationPresent(QueryBudget.class))
+				.collect(Collectors.toMap(method -> method.getName(),
+						method -> method.getAnnotation(QueryBudget.class).value()));
+		assertThat(requests.keySet()).as("endpoints with a query budget").hasSameElementsAs(budgets.keySet());
+
+		SoftAssertions softly = new SoftAssertions();
+		for (Map.Entry<String, RequestBuilder> request : requests.entrySet()) {
+			clearCaches();
+			MockHttpServletResponse response = mockMvc.perform(request.getValue())
+					.andExpect(status().is2xxSuccessful()).andReturn().getResponse();
+			int budget = budgets.get(request.getKey());
+			softly.assertThat(response.getHeader("X-Query-Budget"))
+					.as("%s budget header", request.getKey()).isEqualTo(Integer.toString(budget));
+			softly.assertThat(Integer.parseInt(response.getHeader("X-Query-Count")))
+					.as("%s statements", request.getKey()).isLessThanOrEqualTo(budget);
+		}
+		softly.assertAll();
+	}
+
+	private long createBlog(String title) throws Exception {
+		String body = mockMvc.perform(post("/api/blogs").contentType(MediaType.APPLICATION_JSON).content(blogJson(title)))
+				.andExpect(status().isCreated()).andReturn().getResponse().getContentAsString();
+		return JsonPath.<Number>read(body, "$.id").longValue();
+	}
+
+	private long addComment(long blogId, String comment) throws Exception {
+		String body = mockMvc.perform(post("/api/blogs/{id}/comment", blogId).contentType(MediaType.APPLICATION_JSON)
+				.content(commentJson(comment))).andExpect(status().isCreated()).andReturn().getResponse()
+				.getContentAsString();
+		return JsonPath.<Number>read(body, "$.id").longValue();
+	}
+
+	private void clearCaches() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	private static String blogJson(String title) {
+		return "{\"title\":\"" + title + "\",\"content\":\"Content of " + title + "\",\"author\":\"Tester\"}";
+	}
+
+	private static String commentJson(String comment) {
+		return "{\"comment\":\"" + comment + "\"}";
+	}
+}
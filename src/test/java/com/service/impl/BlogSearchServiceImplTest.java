@@ -0,0 +1,71 @@
+package com.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dto.BlogDTO;
+import com.service.BlogSearchService;
+import com.service.BlogService;
+
+/**
+ * Checks that the search index follows the blog write paths once, and only
+ * once, their transactions commit.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class BlogSearchServiceImplTest {
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogSearchService searchService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void indexesBulkCreatedBlogsAfterCommit() {
+        List<BlogDTO> created = blogService.createBlogs(List.of(blog("Zebra one"), blog("Zebra two"),
+                blog("Zebra three"))).getCreated();
+
+        assertThat(searchService.searchBlogs("zebra", null, 10).getItems()).extracting(BlogDTO::getId)
+                .containsExactlyInAnyOrderElementsOf(created.stream().map(BlogDTO::getId).toList());
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    void appliesNothingWhenTheTransactionRollsBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            blogService.createBlogs(List.of(blog("Quokka one"), blog("Quokka two")));
+            status.setRollbackOnly();
+        });
+
+        assertThat(searchService.searchBlogs("quokka", null, 10).getItems()).isEmpty();
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    void removesDeletedBlogs() {
+        BlogDTO created = blogService.createBlog(blog("Narwhal tale"));
+        blogService.deleteBlog(created.getId());
+
+        assertThat(searchService.searchBlogs("narwhal", null, 10).getItems()).isEmpty();
+    }
+
+    private static BlogDTO blog(String title) {
+        BlogDTO blog = new BlogDTO();
+        blog.setTitle(title);
+        blog.setContent("Content of " + title);
+        blog.setAuthor("Tester");
+        return blog;
+    }
+}
@@ -0,0 +1,82 @@
+package com.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.config.CacheConfig;
+import com.dto.BlogDTO;
+import com.dto.CommentDTO;
+import com.service.BlogService;
+import com.service.CommentService;
+
+/**
+ * Checks that batch comment inserts evict the cached blogs only once their
+ * transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class CommentServiceImplTest {
+
+	@Autowired
+	private BlogService blogService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void evictsBatchCommentedBlogsAfterCommit() {
+		Long blogId = createBlog().getId();
+		blogService.getBlogById(blogId);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			commentService.createComments(List.of(comment(blogId, "First batched"), comment(blogId, "Second batched")));
+			assertThat(cacheManager.getCache(CacheConfig.BLOGS).get(blogId)).as("cached before commit").isNotNull();
+		});
+
+		assertThat(cacheManager.getCache(CacheConfig.BLOGS).get(blogId)).as("cached after commit").isNull();
+		assertThat(blogService.getBlogById(blogId).getCommentCount()).isEqualTo(2);
+	}
+
+	@Test
+	void keepsCacheWhenBatchRollsBack() {
+		Long blogId = createBlog().getId();
+		blogService.getBlogById(blogId);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			commentService.createComments(List.of(comment(blogId, "Rolled back")));
+			status.setRollbackOnly();
+		});
+
+		assertThat(cacheManager.getCache(CacheConfig.BLOGS).get(blogId)).isNotNull();
+		assertThat(blogService.getBlogById(blogId).getCommentCount()).isZero();
+	}
+
+	private BlogDTO createBlog() {
+		BlogDTO blog = new BlogDTO();
+		blog.setTitle("Batch commented");
+		blog.setContent("Receives batched comments");
+		blog.setAuthor("Tester");
+		return blogService.createBlog(blog);
+	}
+
+	private static CommentDTO comment(Long blogId, String text) {
+		CommentDTO comment = new CommentDTO();
+		comment.setBlogId(blogId);
+		comment.setComment(text);
+		return comment;
+	}
+}